@@ -0,0 +1,75 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.annotation.Auth;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 호출마다 @Auth AuthUser 인자를 만드는 비용을 비교합니다.
+ * <ul>
+ *     <li>threeAttributes: 이전 방식처럼 userId, email, userRole 속성을 꺼내 형변환하고 UserRole 을 stream 으로 찾는 경우</li>
+ *     <li>singleTypedAttribute: JwtFilter 가 저장한 AuthUser 하나를 그대로 꺼내는 경우</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthUserResolverBenchmark {
+
+    private AuthUserArgumentResolver resolver;
+    private MethodParameter parameter;
+    private NativeWebRequest legacyRequest;
+    private NativeWebRequest principalRequest;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        resolver = new AuthUserArgumentResolver();
+        parameter = new MethodParameter(Handler.class.getDeclaredMethod("handle", AuthUser.class), 0);
+
+        MockHttpServletRequest legacy = new MockHttpServletRequest("GET", "/todos");
+        legacy.setAttribute("userId", 1L);
+        legacy.setAttribute("email", "user@example.com");
+        legacy.setAttribute("userRole", "USER");
+        legacyRequest = new ServletWebRequest(legacy);
+
+        MockHttpServletRequest principal = new MockHttpServletRequest("GET", "/todos");
+        AuthenticatedPrincipal.set(principal, new AuthUser(1L, "user@example.com", UserRole.USER));
+        principalRequest = new ServletWebRequest(principal);
+    }
+
+    @Benchmark
+    public AuthUser threeAttributes() {
+        Long userId = (Long) legacyRequest.getAttribute("userId", NativeWebRequest.SCOPE_REQUEST);
+        String email = (String) legacyRequest.getAttribute("email", NativeWebRequest.SCOPE_REQUEST);
+        String role = (String) legacyRequest.getAttribute("userRole", NativeWebRequest.SCOPE_REQUEST);
+        UserRole userRole = Arrays.stream(UserRole.values())
+                .filter(r -> r.name().equalsIgnoreCase(role))
+                .findFirst()
+                .orElseThrow();
+        return new AuthUser(userId, email, userRole);
+    }
+
+    @Benchmark
+    public Object singleTypedAttribute() {
+        return resolver.resolveArgument(parameter, null, principalRequest, null);
+    }
+
+    static class Handler {
+        void handle(@Auth AuthUser authUser) {
+        }
+    }
+}
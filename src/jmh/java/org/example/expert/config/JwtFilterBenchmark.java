@@ -0,0 +1,106 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 한 번을 통과하는 비용을 토큰 종류별로 비교합니다.
+ * 잘못된 토큰도 예외 없이 결과 코드로 처리되므로, 유효한 토큰과 비슷한 비용으로 거절되는지 확인합니다.
+ * <ul>
+ *     <li>validToken: 이미 검증한 유효한 토큰</li>
+ *     <li>invalidSignature: 서명이 잘못된 토큰 (실패 결과 캐시 적중)</li>
+ *     <li>malformedToken: JWT 구조가 아닌 값 (파싱 전에 거절)</li>
+ *     <li>missingHeader: Authorization 헤더가 없는 요청</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET_KEY = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtFilter jwtFilter;
+    private MockHttpServletRequest validRequest;
+    private MockHttpServletRequest invalidSignatureRequest;
+    private MockHttpServletRequest malformedRequest;
+    private MockHttpServletRequest missingHeaderRequest;
+
+    @Setup
+    public void setUp() throws ServletException, IOException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtTokenCache tokenCache = new JwtTokenCache(10_000, meterRegistry);
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET_KEY, "", Duration.ofHours(1), tokenCache);
+        keyRing.init();
+        // 폐기 기록이 없는 상태만 측정하므로 테이블을 읽지 않습니다. (init 을 호출하지 않음)
+        JwtUtil jwtUtil = new JwtUtil(keyRing, tokenCache, new TokenRevocationList(null, 10_000, meterRegistry));
+        JwtRouteMatcher routeMatcher = new JwtRouteMatcher(Map.of(
+                "/auth", JwtRouteMatcher.Route.PUBLIC,
+                "/admin", JwtRouteMatcher.Route.ADMIN
+        ));
+        jwtFilter = new JwtFilter(jwtUtil, routeMatcher, new JwtRejectionLogger(Duration.ofSeconds(10), meterRegistry));
+
+        String bearerToken = jwtUtil.createToken(1L, "user@example.com", UserRole.USER);
+        String tampered = bearerToken.substring(0, bearerToken.length() - 2) + (bearerToken.endsWith("AA") ? "BB" : "AA");
+        validRequest = request(bearerToken);
+        invalidSignatureRequest = request(tampered);
+        malformedRequest = request("Bearer not-a-jwt");
+        missingHeaderRequest = request(null);
+
+        // 첫 검증 결과를 캐시에 올려 둡니다.
+        validToken();
+        invalidSignature();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse validToken() throws ServletException, IOException {
+        return doFilter(validRequest);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse invalidSignature() throws ServletException, IOException {
+        return doFilter(invalidSignatureRequest);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse malformedToken() throws ServletException, IOException {
+        return doFilter(malformedRequest);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse missingHeader() throws ServletException, IOException {
+        return doFilter(missingHeaderRequest);
+    }
+
+    private MockHttpServletResponse doFilter(MockHttpServletRequest request) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtFilter.doFilter(request, response, NO_OP_CHAIN);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 가 모든 요청에서 수행하는 토큰 검증 비용을 비교합니다.
+ * gc 프로파일러의 gc.alloc.rate.norm 값으로 요청당 할당량을 함께 확인합니다.
+ * <ul>
+ *     <li>parserPerRequest: 이전 방식처럼 요청마다 파서를 새로 만든 경우</li>
+ *     <li>sharedParser: 생성자에서 만든 파서를 재사용하는 경우</li>
+ *     <li>cachedToken: 이미 검증한 토큰을 캐시에서 가져오고 폐기 여부를 확인하는 경우 (JwtFilter 가 실제로 거치는 경로)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtParserBenchmark {
+
+    private static final String SECRET_KEY = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+
+    private Key key;
+    private JwtUtil jwtUtil;
+    private String bearerToken;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY));
+        JwtTokenCache tokenCache = new JwtTokenCache(10_000, new SimpleMeterRegistry());
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET_KEY, "", Duration.ofHours(1), tokenCache);
+        keyRing.init();
+        // 폐기 기록이 없는 상태만 측정하므로 테이블을 읽지 않습니다. (init 을 호출하지 않음)
+        jwtUtil = new JwtUtil(keyRing, tokenCache, new TokenRevocationList(null, 10_000, new SimpleMeterRegistry()));
+        bearerToken = jwtUtil.createToken(1L, "user@example.com", UserRole.USER);
+        token = jwtUtil.substringToken(bearerToken);
+        jwtUtil.verify(bearerToken);
+    }
+
+    @Benchmark
+    public Claims parserPerRequest() {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public JwtVerification cachedToken() {
+        return jwtUtil.verify(bearerToken);
+    }
+}
@@ -0,0 +1,45 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 일정 목록 조회(ORDER BY modified_at DESC, id DESC)에 맞춘 내림차순 인덱스를 만듭니다.
+ * 정렬 방향과 같은 인덱스라 정렬 없이 앞에서부터 LIMIT 만큼만 읽습니다.
+ * ddl-auto: update 로 실행하던 DB 에는 엔티티 선언을 보고 만든 같은 이름의 오름차순 인덱스가 이미 있을 수 있습니다.
+ * MySQL 은 CREATE/DROP INDEX 에 IF [NOT] EXISTS 를 지원하지 않으므로, 메타데이터로 확인해 있으면 지우고 다시 만듭니다.
+ */
+public class V4__Todos_modified_at_index extends BaseJavaMigration {
+
+    private static final String TABLE_NAME = "todos";
+    private static final String INDEX_NAME = "idx_todos_modified_at_id";
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            if (indexExists(connection)) {
+                statement.execute("DROP INDEX " + INDEX_NAME + " ON " + TABLE_NAME);
+            }
+            statement.execute("CREATE INDEX " + INDEX_NAME + " ON " + TABLE_NAME + " (modified_at DESC, id DESC)");
+        }
+    }
+
+    private static boolean indexExists(Connection connection) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), TABLE_NAME, false, false)) {
+            while (indexes.next()) {
+                if (INDEX_NAME.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
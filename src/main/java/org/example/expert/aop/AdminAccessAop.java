@@ -1,44 +1,69 @@
 package org.example.expert.aop;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
-import org.example.expert.config.JwtUtil;
+import org.example.expert.config.AuthenticatedPrincipal;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.time.LocalDate;
-import java.time.LocalTime;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
 
-@Slf4j(topic = "AdminAccess")
 @Aspect
 @Configuration
 @RequiredArgsConstructor
 public class AdminAccessAop {
 
-    private final JwtUtil jwtUtil;
+    private final AdminAuditLog adminAuditLog;
 
     @Pointcut("@annotation(org.example.expert.annotation.Admin)")
     private void adminAnnotation(){}
 
 
-    @Before("adminAnnotation()")
-    public void adminRequest() {
-
-        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
-        String bearerJwt = request.getHeader("Authorization");
-        String jwt = jwtUtil.substringToken(bearerJwt);
-        Claims claims = jwtUtil.extractClaims(jwt);
-
-        log.info("ID : {}",String.valueOf(Long.parseLong(claims.getSubject())));
+    /**
+     * 관리자 API 호출 결과와 처리 시간을 감사 로그로 남깁니다.
+     * 파일 기록은 AdminAuditLog 의 전용 스레드가 하므로 요청 스레드는 버퍼에 넣기만 합니다.
+     */
+    @Around("adminAnnotation()")
+    public Object adminRequest(ProceedingJoinPoint joinPoint) throws Throwable {
+        Instant startedAt = Instant.now();
+        long startNanos = System.nanoTime();
+        String outcome = AdminAuditEvent.SUCCESS;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+            adminAuditLog.record(createEvent(startedAt, outcome, latencyMicros));
+        }
+    }
 
-        log.info("DATETIME : {} T{}", String.valueOf(LocalDate.now()), String.valueOf(LocalTime.now()));
+    private static AdminAuditEvent createEvent(Instant startedAt, String outcome, long latencyMicros) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            // 요청 밖에서 호출된 경우
+            return new AdminAuditEvent(null, startedAt, null, null, outcome, latencyMicros);
+        }
 
-        log.info("Request URL : {}",String.valueOf(request.getRequestURL()));
+        // JwtFilter 가 검증해 둔 사용자 정보를 사용하므로 토큰을 다시 파싱하지 않습니다.
+        HttpServletRequest request = servletAttributes.getRequest();
+        AuthUser authUser = AuthenticatedPrincipal.get(request);
+        return new AdminAuditEvent(
+                authUser == null ? null : authUser.getId(),
+                startedAt,
+                request.getMethod(),
+                request.getRequestURI(),
+                outcome,
+                latencyMicros
+        );
     }
 }
@@ -0,0 +1,25 @@
+package org.example.expert.aop;
+
+import java.time.Instant;
+
+/**
+ * 관리자 API 호출 한 건의 감사 기록입니다.
+ *
+ * @param userId        호출한 관리자 ID (인증 정보가 없으면 null)
+ * @param timestamp     호출 시작 시각
+ * @param httpMethod    HTTP 메서드
+ * @param url           요청 URL
+ * @param outcome       SUCCESS 또는 실패한 예외 클래스 이름
+ * @param latencyMicros 처리 시간 (마이크로초)
+ */
+public record AdminAuditEvent(
+        Long userId,
+        Instant timestamp,
+        String httpMethod,
+        String url,
+        String outcome,
+        long latencyMicros
+) {
+
+    public static final String SUCCESS = "SUCCESS";
+}
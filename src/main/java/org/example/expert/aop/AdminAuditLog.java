@@ -0,0 +1,188 @@
+package org.example.expert.aop;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 관리자 API 감사 기록을 비동기로 파일에 남깁니다.
+ * 요청 스레드는 링 버퍼에 이벤트를 넣기만 하고, 전용 스레드가 버퍼를 모아서 한 번에 파일 끝에 이어 씁니다.
+ * 파일에는 이벤트 한 건당 JSON 한 줄을 기록합니다.
+ * 버퍼가 가득 차면 설정된 정책(DROP, BLOCK)에 따라 처리하고, 버린 건수는 audit.admin.events{result=dropped} 지표로 확인합니다.
+ */
+@Slf4j(topic = "AdminAudit")
+@Component
+@EnableConfigurationProperties(AdminAuditProperties.class)
+public class AdminAuditLog {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private final AdminAuditProperties properties;
+    private final Path path;
+    private final AuditRingBuffer<AdminAuditEvent> buffer;
+    private final Counter acceptedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter writeFailedCounter;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    private Writer writer;
+
+    public AdminAuditLog(AdminAuditProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.path = Path.of(properties.path());
+        this.buffer = new AuditRingBuffer<>(properties.bufferSize());
+        this.acceptedCounter = meterRegistry.counter("audit.admin.events", "result", "accepted");
+        this.droppedCounter = meterRegistry.counter("audit.admin.events", "result", "dropped");
+        this.writtenCounter = meterRegistry.counter("audit.admin.written", "result", "success");
+        this.writeFailedCounter = meterRegistry.counter("audit.admin.written", "result", "failure");
+        Gauge.builder("audit.admin.queue.size", buffer, AuditRingBuffer::size)
+                .description("파일에 기록되기를 기다리는 감사 이벤트 수")
+                .register(meterRegistry);
+
+        this.writerThread = new Thread(this::drainLoop, "admin-audit-writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        writerThread.start();
+    }
+
+    /**
+     * 종료 시 버퍼에 남은 이벤트를 모두 기록한 뒤 파일을 닫습니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 이벤트를 버퍼에 넣습니다. 파일 쓰기는 기다리지 않습니다.
+     *
+     * @return 버퍼가 가득 차 이벤트를 버렸으면 false
+     */
+    public boolean record(AdminAuditEvent event) {
+        if (buffer.offer(event) || (properties.overflowPolicy() == AdminAuditProperties.OverflowPolicy.BLOCK
+                && offerWithin(event, properties.maxBlock().toNanos()))) {
+            acceptedCounter.increment();
+            return true;
+        }
+        droppedCounter.increment();
+        return false;
+    }
+
+    private boolean offerWithin(AdminAuditEvent event, long timeoutNanos) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (System.nanoTime() - deadline < 0) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+            if (buffer.offer(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drainLoop() {
+        List<AdminAuditEvent> batch = new ArrayList<>(properties.batchSize());
+        long idleNanos = properties.flushInterval().toNanos();
+        try {
+            while (running || buffer.size() > 0) {
+                AdminAuditEvent event;
+                while (batch.size() < properties.batchSize() && (event = buffer.poll()) != null) {
+                    batch.add(event);
+                }
+                if (batch.isEmpty()) {
+                    LockSupport.parkNanos(idleNanos);
+                    continue;
+                }
+                write(batch);
+                batch.clear();
+            }
+        } finally {
+            closeWriter();
+        }
+    }
+
+    private void write(List<AdminAuditEvent> batch) {
+        try {
+            Writer out = openWriter();
+            try (JsonGenerator json = JSON_FACTORY.createGenerator(out)) {
+                json.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+                for (AdminAuditEvent event : batch) {
+                    writeEvent(json, event);
+                }
+            }
+            out.write('\n');
+            out.flush();
+            writtenCounter.increment(batch.size());
+        } catch (IOException e) {
+            writeFailedCounter.increment(batch.size());
+            log.warn("관리자 감사 로그를 기록하지 못했습니다. path={}, events={}, cause={}", path, batch.size(), e.getMessage());
+            closeWriter();
+        }
+    }
+
+    private static void writeEvent(JsonGenerator json, AdminAuditEvent event) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("timestamp", event.timestamp().toString());
+        if (event.userId() == null) {
+            json.writeNullField("userId");
+        } else {
+            json.writeNumberField("userId", event.userId());
+        }
+        json.writeStringField("method", event.httpMethod());
+        json.writeStringField("url", event.url());
+        json.writeStringField("outcome", event.outcome());
+        json.writeNumberField("latencyMicros", event.latencyMicros());
+        json.writeEndObject();
+    }
+
+    /**
+     * 파일은 처음 쓸 때 열고, 쓰기에 실패하면 닫았다가 다음 배치에서 다시 엽니다.
+     */
+    private Writer openWriter() throws IOException {
+        if (writer == null) {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        }
+        return writer;
+    }
+
+    private void closeWriter() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.warn("관리자 감사 로그 파일을 닫지 못했습니다. path={}, cause={}", path, e.getMessage());
+        }
+        writer = null;
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.expert.aop;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 관리자 감사 로그 설정입니다.
+ *
+ * @param path           감사 로그를 이어 쓸 파일 경로
+ * @param bufferSize     기록 대기 중인 이벤트를 담는 링 버퍼 크기 (2의 거듭제곱으로 올림)
+ * @param batchSize      한 번에 파일에 쓰는 최대 이벤트 수
+ * @param flushInterval  버퍼가 비었을 때 다음 확인까지 쉬는 시간
+ * @param overflowPolicy 버퍼가 가득 찼을 때의 처리 방식
+ * @param maxBlock       BLOCK 정책에서 빈 자리를 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "audit.admin")
+public record AdminAuditProperties(
+        @DefaultValue("logs/admin-audit.log") String path,
+        @DefaultValue("8192") int bufferSize,
+        @DefaultValue("256") int batchSize,
+        @DefaultValue("200ms") Duration flushInterval,
+        @DefaultValue("DROP") OverflowPolicy overflowPolicy,
+        @DefaultValue("10ms") Duration maxBlock
+) {
+
+    public enum OverflowPolicy {
+        /**
+         * 새 이벤트를 버리고 요청을 바로 진행합니다.
+         */
+        DROP,
+        /**
+         * 최대 maxBlock 만큼 빈 자리를 기다리고, 그래도 없으면 버립니다.
+         */
+        BLOCK
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.expert.aop;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 락을 사용하지 않는 고정 크기 링 버퍼입니다.
+ * 각 칸의 시퀀스 번호로 쓰기/읽기 가능 여부를 판단하므로 여러 스레드가 동시에 넣고 꺼내도 안전합니다.
+ * 가득 차면 기다리지 않고 offer 가 false 를 반환합니다.
+ */
+final class AuditRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    AuditRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 1 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("링 버퍼 크기가 올바르지 않습니다: " + requestedCapacity);
+        }
+        // 크기가 1이면 채워진 칸과 비워진 칸의 시퀀스가 같아지므로 최소 2칸을 사용합니다.
+        int capacity = requestedCapacity <= 2 ? 2 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // 한 바퀴 전의 값을 아직 꺼내지 않았으므로 가득 찬 상태입니다.
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    E poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = elements.get(index);
+                    elements.set(index, null);
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
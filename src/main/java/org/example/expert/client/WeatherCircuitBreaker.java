@@ -0,0 +1,184 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 날씨 API 호출을 감싸는 서킷 브레이커와 벌크헤드입니다.
+ * 최근 호출의 실패율이 기준을 넘으면 서킷을 열어 외부 API 를 호출하지 않고 바로 실패시키고,
+ * 일정 시간이 지나면 시험 호출로 회복 여부를 확인합니다.
+ * 동시에 외부 API 를 기다리는 요청 수도 제한해 느린 외부 API 가 요청 스레드를 모두 잡지 못하게 합니다.
+ */
+@Slf4j(topic = "WeatherCircuitBreaker")
+@Component
+public class WeatherCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final WeatherCircuitBreakerProperties properties;
+    private final Semaphore bulkhead;
+    private final Counter openRejectedCounter;
+    private final Counter bulkheadRejectedCounter;
+    private final Map<State, Map<State, Counter>> transitionCounters = new EnumMap<>(State.class);
+
+    // 아래 상태는 모두 this 로 동기화합니다.
+    private final boolean[] outcomes;
+    private int cursor;
+    private int recordedCalls;
+    private int failedCalls;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    public WeatherCircuitBreaker(WeatherCircuitBreakerProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.bulkhead = new Semaphore(properties.maxConcurrentCalls());
+        this.outcomes = new boolean[properties.windowSize()];
+        this.openRejectedCounter = meterRegistry.counter("weather.circuit.rejected", "reason", "open");
+        this.bulkheadRejectedCounter = meterRegistry.counter("weather.circuit.rejected", "reason", "bulkhead");
+
+        for (State from : State.values()) {
+            Map<State, Counter> counters = new EnumMap<>(State.class);
+            for (State to : State.values()) {
+                if (from != to) {
+                    counters.put(to, meterRegistry.counter("weather.circuit.transitions",
+                            "from", from.name(), "to", to.name()));
+                }
+            }
+            transitionCounters.put(from, counters);
+        }
+        Gauge.builder("weather.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("0: CLOSED, 1: OPEN, 2: HALF_OPEN")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        if (!acquireBulkhead()) {
+            bulkheadRejectedCounter.increment();
+            throw new ServerException("날씨 API 동시 호출 수를 초과했습니다.");
+        }
+        try {
+            boolean probe = acquirePermission();
+            try {
+                T result = call.get();
+                onSuccess(probe);
+                return result;
+            } catch (RuntimeException e) {
+                onFailure(probe);
+                throw e;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(properties.maxWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 호출을 허용하면 반열림 상태의 시험 호출인지 여부를 반환하고, 허용하지 않으면 예외를 던집니다.
+     */
+    private synchronized boolean acquirePermission() {
+        if (state == State.OPEN && clock.millis() - openedAt >= properties.openDuration().toMillis()) {
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.CLOSED) {
+            return false;
+        }
+        if (state == State.HALF_OPEN && probesInFlight + probeSuccesses < properties.halfOpenProbes()) {
+            probesInFlight++;
+            return true;
+        }
+        openRejectedCounter.increment();
+        throw new ServerException("날씨 API 서킷이 열려 있어 호출하지 않습니다.");
+    }
+
+    private synchronized void onSuccess(boolean probe) {
+        if (probe) {
+            if (state != State.HALF_OPEN) {
+                return;
+            }
+            probesInFlight--;
+            probeSuccesses++;
+            if (probeSuccesses >= properties.halfOpenProbes()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    private synchronized void onFailure(boolean probe) {
+        if (probe) {
+            if (state == State.HALF_OPEN) {
+                transitionTo(State.OPEN);
+            }
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED
+                && recordedCalls >= properties.minimumCalls()
+                && failedCalls * 100 >= properties.failureRateThreshold() * recordedCalls) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == outcomes.length) {
+            if (outcomes[cursor]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[cursor] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        cursor = (cursor + 1) % outcomes.length;
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        state = next;
+        transitionCounters.get(previous).get(next).increment();
+        log.warn("날씨 API 서킷 상태 변경: {} -> {}", previous, next);
+
+        if (next == State.OPEN) {
+            openedAt = clock.millis();
+        }
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (next == State.CLOSED) {
+            cursor = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+        }
+    }
+}
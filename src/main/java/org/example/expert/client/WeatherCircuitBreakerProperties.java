@@ -0,0 +1,29 @@
+package org.example.expert.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 날씨 API 서킷 브레이커와 벌크헤드 설정입니다.
+ *
+ * @param windowSize           실패율을 계산할 최근 호출 수
+ * @param minimumCalls         실패율을 계산하기 위한 최소 호출 수
+ * @param failureRateThreshold 서킷을 여는 실패율 (퍼센트)
+ * @param openDuration         서킷이 열린 뒤 다시 시험 호출을 허용하기까지의 시간
+ * @param halfOpenProbes       반열림 상태에서 허용하는 시험 호출 수
+ * @param maxConcurrentCalls   동시에 외부 API 를 호출할 수 있는 최대 요청 수
+ * @param maxWait              벌크헤드 자리를 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "weather.circuit-breaker")
+public record WeatherCircuitBreakerProperties(
+        @DefaultValue("20") int windowSize,
+        @DefaultValue("5") int minimumCalls,
+        @DefaultValue("50") int failureRateThreshold,
+        @DefaultValue("30s") Duration openDuration,
+        @DefaultValue("1") int halfOpenProbes,
+        @DefaultValue("4") int maxConcurrentCalls,
+        @DefaultValue("0ms") Duration maxWait
+) {
+}
@@ -1,30 +1,221 @@
 package org.example.expert.client;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 
+@Slf4j(topic = "WeatherClient")
 @Component
 public class WeatherClient {
 
     private final RestTemplate restTemplate;
+    private final WeatherCircuitBreaker circuitBreaker;
+    private final WeatherSnapshotStore snapshotStore;
+    private final URI weatherApiUri;
+    private final WeatherParseMode parseMode;
+    private final long maxStalenessMillis;
+    private final String fallbackWeather;
+    private final boolean useLastKnownWeather;
+    // 백그라운드에서 주기적으로 갱신하는 전체 날씨 데이터입니다. 갱신에 실패하면 마지막 스냅샷을 계속 사용합니다.
+    private final AtomicReference<WeatherSnapshot> snapshot = new AtomicReference<>();
+    // 마지막으로 파일에 저장한 스냅샷입니다. 파일 쓰기는 백그라운드 갱신에서만 하므로 요청 스레드는 디스크를 기다리지 않습니다.
+    private final AtomicReference<WeatherSnapshot> persistedSnapshot = new AtomicReference<>();
+    // 날짜별로 한 번만 조회하도록 오늘 날씨를 캐싱합니다. 날짜가 바뀌면 자동으로 다시 조회합니다.
+    private final AtomicReference<DailyWeather> todayWeather = new AtomicReference<>();
+    private final Counter refreshSuccessCounter;
+    private final Counter refreshFailureCounter;
+    private final Counter fallbackCounter;
+    private Clock clock = Clock.systemDefaultZone();
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    public WeatherClient(
+            @Qualifier("weatherRestTemplate") RestTemplate restTemplate,
+            WeatherCircuitBreaker circuitBreaker,
+            WeatherSnapshotStore snapshotStore,
+            MeterRegistry meterRegistry,
+            @Value("${weather.api.base-url:https://f-api.github.io}") String baseUrl,
+            @Value("${weather.parse-mode:FULL}") WeatherParseMode parseMode,
+            @Value("${weather.refresh.max-staleness:PT6H}") Duration maxStaleness,
+            @Value("${weather.fallback.value:unknown}") String fallbackWeather,
+            @Value("${weather.fallback.use-last-known:true}") boolean useLastKnownWeather
+    ) {
+        this.restTemplate = restTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.snapshotStore = snapshotStore;
+        this.weatherApiUri = buildWeatherApiUri(baseUrl);
+        this.parseMode = parseMode;
+        this.maxStalenessMillis = maxStaleness.toMillis();
+        this.fallbackWeather = fallbackWeather;
+        this.useLastKnownWeather = useLastKnownWeather;
+        this.refreshSuccessCounter = meterRegistry.counter("weather.refresh", "result", "success");
+        this.refreshFailureCounter = meterRegistry.counter("weather.refresh", "result", "failure");
+        this.fallbackCounter = meterRegistry.counter("weather.fallback");
+        Gauge.builder("weather.snapshot.age", this, WeatherClient::snapshotAgeSeconds)
+                .description("마지막으로 성공한 날씨 스냅샷의 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재시작 직후에도 외부 API 없이 응답할 수 있도록 저장해 둔 스냅샷을 먼저 읽어 옵니다.
+     * 이후 갱신은 백그라운드 작업이 평소대로 수행합니다.
+     */
+    @PostConstruct
+    public void loadPersistedSnapshot() {
+        snapshotStore.load().ifPresent(persisted -> {
+            snapshot.compareAndSet(null, persisted);
+            persistedSnapshot.set(persisted);
+            log.info("저장된 날씨 스냅샷을 불러왔습니다. fetchedAt={}", persisted.getFetchedAt());
+        });
     }
 
     public String getTodayWeather() {
+        LocalDate today = LocalDate.now(clock);
+
+        // 최대 허용 시간 안의 스냅샷이 있으면 네트워크 호출 없이 바로 응답합니다.
+        WeatherSnapshot current = snapshot.get();
+        if (current != null && !isStale(current)) {
+            String weather = current.findWeather(today);
+            if (weather != null) {
+                return weather;
+            }
+        }
+
+        try {
+            return loadTodayWeather(today);
+        } catch (ServerException | RestClientException e) {
+            return fallback(today, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${weather.refresh.interval:PT10M}")
+    public void refreshSnapshot() {
+        try {
+            circuitBreaker.execute(this::fetchSnapshot);
+            refreshSuccessCounter.increment();
+        } catch (RuntimeException e) {
+            refreshFailureCounter.increment();
+            log.warn("날씨 스냅샷 갱신에 실패했습니다. 마지막 스냅샷을 계속 사용합니다. age={}, cause={}",
+                    getSnapshotAge().orElse(null), e.getMessage());
+        }
+        // 요청 경로에서 새로 가져온 스냅샷이 있으면 갱신에 실패했더라도 저장합니다.
+        persistSnapshot();
+    }
+
+    /**
+     * 마지막으로 성공한 스냅샷의 경과 시간을 반환합니다. 아직 스냅샷이 없으면 빈 값을 반환합니다.
+     */
+    public Optional<Duration> getSnapshotAge() {
+        return Optional.ofNullable(snapshot.get()).map(current -> current.getAge(clock.instant()));
+    }
+
+    private void persistSnapshot() {
+        WeatherSnapshot current = snapshot.get();
+        if (current != null && persistedSnapshot.getAndSet(current) != current) {
+            snapshotStore.save(current);
+        }
+    }
+
+    private double snapshotAgeSeconds() {
+        return getSnapshotAge().map(age -> age.toMillis() / 1000.0).orElse(Double.NaN);
+    }
+
+    private boolean isStale(WeatherSnapshot current) {
+        return current.isOlderThan(maxStalenessMillis, clock.millis());
+    }
+
+    private String loadTodayWeather(LocalDate today) {
+        while (true) {
+            DailyWeather cached = todayWeather.get();
+            if (cached != null && cached.date().equals(today)) {
+                return cached.await();
+            }
+
+            // 동시에 들어온 요청 중 하나만 외부 API 를 호출하고, 나머지는 그 결과를 기다립니다.
+            DailyWeather loading = new DailyWeather(today, new CompletableFuture<>());
+            if (todayWeather.compareAndSet(cached, loading)) {
+                return load(loading);
+            }
+        }
+    }
+
+    /**
+     * 외부 API 를 사용할 수 없을 때의 대체 값입니다.
+     * 허용 시간이 지났더라도 마지막 스냅샷에 오늘 날씨가 있으면 그 값을, 없으면 설정된 기본값을 사용합니다.
+     * 기본값이 비어 있으면 원래 예외를 그대로 던집니다.
+     */
+    private String fallback(LocalDate today, RuntimeException cause) {
+        WeatherSnapshot lastKnown = snapshot.get();
+        String weather = useLastKnownWeather && lastKnown != null ? lastKnown.findWeather(today) : null;
+        if (weather == null && StringUtils.hasText(fallbackWeather)) {
+            weather = fallbackWeather;
+        }
+        if (weather == null) {
+            throw cause;
+        }
+
+        fallbackCounter.increment();
+        log.warn("날씨 API 를 사용할 수 없어 대체 값을 사용합니다. weather={}, cause={}", weather, cause.getMessage());
+        return weather;
+    }
+
+    private String load(DailyWeather loading) {
+        try {
+            String weather = circuitBreaker.execute(() -> parseMode == WeatherParseMode.STREAMING
+                    ? streamWeather(loading.date())
+                    : fetchSnapshot().findWeather(loading.date()));
+            if (weather == null) {
+                throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+            }
+            loading.weather().complete(weather);
+            return weather;
+        } catch (RuntimeException e) {
+            // 실패한 결과는 캐싱하지 않고 다음 요청에서 다시 조회합니다.
+            todayWeather.compareAndSet(loading, null);
+            loading.weather().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 응답을 끝까지 역직렬화하지 않고 해당 날짜의 항목을 찾는 즉시 파싱을 멈춥니다.
+     * 일부만 읽으므로 스냅샷은 만들지 않습니다.
+     */
+    private String streamWeather(LocalDate date) {
+        return restTemplate.execute(weatherApiUri, HttpMethod.GET, null, response -> {
+            if (!HttpStatus.OK.equals(response.getStatusCode())) {
+                throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + response.getStatusCode());
+            }
+            return WeatherFeedParser.findWeather(response.getBody(), date);
+        });
+    }
+
+    private WeatherSnapshot fetchSnapshot() {
         ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+                restTemplate.getForEntity(weatherApiUri, WeatherDto[].class);
 
         WeatherDto[] weatherArray = responseEntity.getBody();
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
@@ -34,28 +225,31 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
-
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
-            }
-        }
-
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        WeatherSnapshot fetched = new WeatherSnapshot(WeatherTable.of(weatherArray), clock.instant());
+        snapshot.set(fetched);
+        return fetched;
     }
 
-    private URI buildWeatherApiUri() {
+    private static URI buildWeatherApiUri(String baseUrl) {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    private record DailyWeather(LocalDate date, CompletableFuture<String> weather) {
+
+        String await() {
+            try {
+                return weather.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
     }
 }
@@ -0,0 +1,80 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.expert.domain.common.exception.ServerException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+
+/**
+ * weather.json 응답을 토큰 단위로 읽어 필요한 날짜의 날씨만 꺼냅니다.
+ * 날짜는 문자열을 만들지 않고 파서 버퍼에서 바로 비교하며, 찾는 즉시 읽기를 멈춥니다.
+ * 항목 안에서 "date" 가 "weather" 보다 앞에 있어야 일치하지 않는 항목의 날씨 문자열을 만들지 않습니다.
+ * 순서가 반대이면 날짜를 확인하기 전이라 항목마다 날씨 문자열을 만들지만, 결과는 같습니다.
+ */
+final class WeatherFeedParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private WeatherFeedParser() {
+    }
+
+    /**
+     * 주어진 날짜의 날씨를 반환합니다. 배열 안에 해당 날짜가 없으면 null 을 반환합니다.
+     */
+    static String findWeather(InputStream body, LocalDate date) throws IOException {
+        int targetSlot = WeatherTable.slotOf(date);
+
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ServerException("날씨 데이터 형식이 올바르지 않습니다.");
+            }
+
+            boolean empty = true;
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                empty = false;
+                String weather = readWeatherIfMatches(parser, targetSlot);
+                if (weather != null) {
+                    return weather;
+                }
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new ServerException("날씨 데이터 형식이 올바르지 않습니다.");
+            }
+            if (empty) {
+                throw new ServerException("날씨 데이터가 없습니다.");
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 현재 객체를 끝까지 읽고, 날짜가 일치하면 날씨를 반환합니다.
+     * 날짜를 이미 읽었고 일치하지 않으면 날씨 문자열을 만들지 않습니다.
+     */
+    private static String readWeatherIfMatches(JsonParser parser, int targetSlot) throws IOException {
+        int slot = -1;
+        boolean dateSeen = false;
+        String weather = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("date".equals(field) && value == JsonToken.VALUE_STRING) {
+                slot = WeatherTable.slotOf(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                dateSeen = true;
+            } else if ("weather".equals(field) && value == JsonToken.VALUE_STRING && (!dateSeen || slot == targetSlot)) {
+                weather = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return slot == targetSlot ? weather : null;
+    }
+}
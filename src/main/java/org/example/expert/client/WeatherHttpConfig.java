@@ -0,0 +1,233 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 날씨 API 전용 HTTP 클라이언트 설정입니다.
+ * 기본 RestTemplateBuilder 는 커넥션 풀과 타임아웃이 없어 외부 API 가 멈추면 요청 스레드가 계속 묶이므로,
+ * 연결 재사용과 연결/읽기/전체 제한 시간을 명시적으로 설정합니다.
+ * 요청 지연 시간은 RestTemplateBuilder 가 등록하는 http.client.requests 지표로 수집됩니다.
+ */
+@Configuration
+@EnableConfigurationProperties({WeatherHttpProperties.class, WeatherCircuitBreakerProperties.class})
+public class WeatherHttpConfig {
+
+    @Bean
+    public ClientHttpRequestFactory weatherRequestFactory(WeatherHttpProperties properties, MeterRegistry meterRegistry) {
+        if (properties.version() == HttpClient.Version.HTTP_2) {
+            return http2RequestFactory(properties);
+        }
+        return pooledRequestFactory(properties, meterRegistry);
+    }
+
+    @Bean
+    public RestTemplate weatherRestTemplate(
+            RestTemplateBuilder builder,
+            @Qualifier("weatherRequestFactory") ClientHttpRequestFactory weatherRequestFactory
+    ) {
+        return builder.requestFactory(() -> weatherRequestFactory).build();
+    }
+
+    static ClientHttpRequestFactory pooledRequestFactory(WeatherHttpProperties properties, MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.maxConnections())
+                .setMaxConnPerRoute(properties.maxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(toTimeout(properties.connectTimeout()))
+                        .setSocketTimeout(toTimeout(properties.readTimeout()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(properties.keepAlive().toMillis()))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "weather").bindTo(meterRegistry);
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(toTimeout(properties.poolAcquireTimeout()))
+                        .setResponseTimeout(toTimeout(properties.readTimeout()))
+                        .build())
+                .evictIdleConnections(TimeValue.ofMilliseconds(properties.keepAlive().toMillis()))
+                .evictExpiredConnections()
+                .build();
+
+        return new DeadlineHttpRequestFactory(httpClient, properties.totalTimeout());
+    }
+
+    /**
+     * HTTP/2 는 하나의 연결에서 요청을 다중화하므로 별도의 커넥션 풀을 두지 않습니다.
+     * JDK 클라이언트의 요청 제한 시간은 응답 헤더를 받을 때까지 적용됩니다.
+     */
+    static ClientHttpRequestFactory http2RequestFactory(WeatherHttpProperties properties) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.connectTimeout())
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.totalTimeout());
+        return requestFactory;
+    }
+
+    private static Timeout toTimeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    /**
+     * 소켓 읽기 제한 시간은 데이터가 조금씩 계속 들어오면 끝나지 않으므로,
+     * 요청마다 전체 제한 시간이 지나면 요청을 취소해 연결과 요청 스레드를 반드시 돌려받습니다.
+     * 제한 시간은 요청을 보낼 때 예약하고, 응답을 닫거나 요청이 실패하면 예약을 바로 취소해 스케줄러에 남기지 않습니다.
+     */
+    static class DeadlineHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+        private final Duration totalTimeout;
+        private final ScheduledThreadPoolExecutor deadlineScheduler;
+        // postProcessHttpRequest 와 createRequest 는 같은 스레드에서 이어서 실행되므로, 그 사이에 취소할 요청을 넘겨받습니다.
+        private final ThreadLocal<HttpUriRequestBase> creating = new ThreadLocal<>();
+
+        DeadlineHttpRequestFactory(CloseableHttpClient httpClient, Duration totalTimeout) {
+            super(httpClient);
+            this.totalTimeout = totalTimeout;
+            this.deadlineScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "weather-http-deadline");
+                thread.setDaemon(true);
+                return thread;
+            });
+            // 취소한 예약을 제한 시간까지 큐에 남겨 두지 않습니다.
+            deadlineScheduler.setRemoveOnCancelPolicy(true);
+        }
+
+        @Override
+        public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+            try {
+                ClientHttpRequest request = super.createRequest(uri, httpMethod);
+                HttpUriRequestBase cancellable = creating.get();
+                return cancellable == null ? request : new DeadlineRequest(request, cancellable);
+            } finally {
+                creating.remove();
+            }
+        }
+
+        @Override
+        protected void postProcessHttpRequest(ClassicHttpRequest request) {
+            if (request instanceof HttpUriRequestBase cancellable) {
+                creating.set(cancellable);
+            }
+        }
+
+        @Override
+        public void destroy() throws Exception {
+            deadlineScheduler.shutdownNow();
+            super.destroy();
+        }
+
+        private class DeadlineRequest implements ClientHttpRequest {
+
+            private final ClientHttpRequest delegate;
+            private final HttpUriRequestBase cancellable;
+
+            private DeadlineRequest(ClientHttpRequest delegate, HttpUriRequestBase cancellable) {
+                this.delegate = delegate;
+                this.cancellable = cancellable;
+            }
+
+            @Override
+            public ClientHttpResponse execute() throws IOException {
+                ScheduledFuture<?> deadline = deadlineScheduler.schedule(
+                        cancellable::cancel, totalTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                try {
+                    return new DeadlineResponse(delegate.execute(), deadline);
+                } catch (IOException | RuntimeException e) {
+                    deadline.cancel(false);
+                    throw e;
+                }
+            }
+
+            @Override
+            public OutputStream getBody() throws IOException {
+                return delegate.getBody();
+            }
+
+            @Override
+            public HttpMethod getMethod() {
+                return delegate.getMethod();
+            }
+
+            @Override
+            public URI getURI() {
+                return delegate.getURI();
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return delegate.getHeaders();
+            }
+        }
+
+        private record DeadlineResponse(ClientHttpResponse delegate, ScheduledFuture<?> deadline) implements ClientHttpResponse {
+
+            @Override
+            public HttpStatusCode getStatusCode() throws IOException {
+                return delegate.getStatusCode();
+            }
+
+            @Override
+            public String getStatusText() throws IOException {
+                return delegate.getStatusText();
+            }
+
+            @Override
+            public InputStream getBody() throws IOException {
+                return delegate.getBody();
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return delegate.getHeaders();
+            }
+
+            @Override
+            public void close() {
+                try {
+                    delegate.close();
+                } finally {
+                    deadline.cancel(false);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.expert.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 날씨 API 호출에 사용하는 HTTP 연결 설정입니다.
+ *
+ * @param version            HTTP_1_1 이면 커넥션 풀을 사용하고, HTTP_2 면 하나의 연결을 다중화합니다.
+ * @param maxConnections     커넥션 풀의 최대 연결 수
+ * @param connectTimeout     TCP 연결 제한 시간
+ * @param readTimeout        응답 데이터를 기다리는 최대 시간 (소켓 읽기 단위)
+ * @param totalTimeout       요청 한 건이 끝날 때까지의 전체 제한 시간
+ * @param poolAcquireTimeout 커넥션 풀에서 연결을 얻기까지 기다리는 최대 시간
+ * @param keepAlive          사용하지 않는 연결을 풀에 유지하는 시간
+ */
+@ConfigurationProperties(prefix = "weather.http")
+public record WeatherHttpProperties(
+        @DefaultValue("HTTP_1_1") HttpClient.Version version,
+        @DefaultValue("20") int maxConnections,
+        @DefaultValue("1s") Duration connectTimeout,
+        @DefaultValue("2s") Duration readTimeout,
+        @DefaultValue("3s") Duration totalTimeout,
+        @DefaultValue("500ms") Duration poolAcquireTimeout,
+        @DefaultValue("30s") Duration keepAlive
+) {
+}
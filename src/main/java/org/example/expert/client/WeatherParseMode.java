@@ -0,0 +1,8 @@
+package org.example.expert.client;
+
+public enum WeatherParseMode {
+    // 응답 전체를 WeatherDto 배열로 역직렬화하고 1년치 스냅샷을 만듭니다.
+    FULL,
+    // 응답을 토큰 단위로 읽다가 오늘 날짜의 항목을 찾으면 바로 멈춥니다.
+    STREAMING
+}
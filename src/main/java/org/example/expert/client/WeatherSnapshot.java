@@ -0,0 +1,39 @@
+package org.example.expert.client;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 한 번에 내려받은 전체 날씨 데이터와 조회 시각을 묶은 불변 스냅샷입니다.
+ */
+public class WeatherSnapshot {
+
+    private final WeatherTable table;
+    private final Instant fetchedAt;
+
+    public WeatherSnapshot(WeatherTable table, Instant fetchedAt) {
+        this.table = table;
+        this.fetchedAt = fetchedAt;
+    }
+
+    public String findWeather(LocalDate date) {
+        return table.find(date);
+    }
+
+    public WeatherTable getTable() {
+        return table;
+    }
+
+    public Instant getFetchedAt() {
+        return fetchedAt;
+    }
+
+    public Duration getAge(Instant now) {
+        return Duration.between(fetchedAt, now);
+    }
+
+    public boolean isOlderThan(long maxAgeMillis, long nowMillis) {
+        return nowMillis - fetchedAt.toEpochMilli() > maxAgeMillis;
+    }
+}
@@ -0,0 +1,159 @@
+package org.example.expert.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * 마지막으로 성공한 날씨 스냅샷을 로컬 파일에 저장하고, 재시작 시 네트워크 없이 다시 읽어 옵니다.
+ * 파일은 JSON 대신 사전과 366개 슬롯을 그대로 담은 바이너리 형식이며, 읽을 때는 메모리 매핑으로 한 번에 해석합니다.
+ * <pre>
+ * int    MAGIC
+ * short  VERSION
+ * long   조회 시각(epoch millis)
+ * short  사전 크기 N
+ * N 회   short 길이 + UTF-8 날씨 문자열
+ * 366 회 short 사전 인덱스 (-1 은 비어 있음)
+ * int    앞의 모든 바이트에 대한 CRC32
+ * </pre>
+ * 경로가 비어 있으면 저장하지 않습니다. 파일이 없거나 손상되었으면 스냅샷 없이 시작합니다.
+ */
+@Slf4j(topic = "WeatherSnapshotStore")
+@Component
+public class WeatherSnapshotStore {
+
+    static final int MAGIC = 0x57545442; // "WTTB"
+    static final short VERSION = 1;
+
+    private final Path path;
+
+    public WeatherSnapshotStore(@Value("${weather.snapshot.path:}") String path) {
+        this.path = StringUtils.hasText(path) ? Path.of(path) : null;
+    }
+
+    public Optional<WeatherSnapshot> load() {
+        if (path == null || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(decode(buffer));
+        } catch (IOException | IllegalArgumentException | BufferUnderflowException e) {
+            log.warn("저장된 날씨 스냅샷을 읽지 못했습니다. path={}, cause={}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 이동하므로, 쓰는 도중에 종료되어도 이전 파일이 깨지지 않습니다.
+     * 저장에 실패해도 요청 처리에는 영향을 주지 않으며, 남은 임시 파일은 지웁니다.
+     */
+    public void save(WeatherSnapshot snapshot) {
+        if (path == null) {
+            return;
+        }
+        Path temp = null;
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = encode(snapshot);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("날씨 스냅샷을 저장하지 못했습니다. path={}, cause={}", path, e.getMessage());
+            deleteQuietly(temp);
+        }
+    }
+
+    private void deleteQuietly(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            log.warn("날씨 스냅샷 임시 파일을 지우지 못했습니다. path={}, cause={}", temp, e.getMessage());
+        }
+    }
+
+    static ByteBuffer encode(WeatherSnapshot snapshot) {
+        String[] dictionary = snapshot.getTable().dictionary();
+        short[] slots = snapshot.getTable().slots();
+
+        byte[][] words = new byte[dictionary.length][];
+        int size = Integer.BYTES + Short.BYTES + Long.BYTES + Short.BYTES;
+        for (int i = 0; i < dictionary.length; i++) {
+            words[i] = dictionary[i].getBytes(StandardCharsets.UTF_8);
+            size += Short.BYTES + words[i].length;
+        }
+        size += slots.length * Short.BYTES + Integer.BYTES;
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC)
+                .putShort(VERSION)
+                .putLong(snapshot.getFetchedAt().toEpochMilli())
+                .putShort((short) dictionary.length);
+        for (byte[] word : words) {
+            buffer.putShort((short) word.length).put(word);
+        }
+        for (short slot : slots) {
+            buffer.putShort(slot);
+        }
+        buffer.putInt(checksum(buffer, buffer.position()));
+        return buffer.flip();
+    }
+
+    static WeatherSnapshot decode(ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES * 2 || buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+            throw new IllegalArgumentException("날씨 스냅샷 파일 형식이 올바르지 않습니다.");
+        }
+        Instant fetchedAt = Instant.ofEpochMilli(buffer.getLong());
+
+        String[] dictionary = new String[Short.toUnsignedInt(buffer.getShort())];
+        for (int i = 0; i < dictionary.length; i++) {
+            byte[] word = new byte[Short.toUnsignedInt(buffer.getShort())];
+            buffer.get(word);
+            dictionary[i] = new String(word, StandardCharsets.UTF_8);
+        }
+
+        short[] slots = new short[WeatherTable.SLOT_COUNT];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = buffer.getShort();
+            if (slots[i] < -1 || slots[i] >= dictionary.length) {
+                throw new IllegalArgumentException("날씨 스냅샷 파일 형식이 올바르지 않습니다.");
+            }
+        }
+
+        int contentLength = buffer.position();
+        if (checksum(buffer, contentLength) != buffer.getInt()) {
+            throw new IllegalArgumentException("날씨 스냅샷 파일이 손상되었습니다.");
+        }
+        return new WeatherSnapshot(new WeatherTable(dictionary, slots), fetchedAt);
+    }
+
+    private static int checksum(ByteBuffer buffer, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(0).limit(length));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.expert.client;
+
+import org.example.expert.client.dto.WeatherDto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 날씨 데이터를 윤년 기준 366일 슬롯에 담은 조회 테이블입니다.
+ * 같은 날씨 문자열은 사전(dictionary)에 한 번만 저장하고, 슬롯에는 사전 인덱스만 보관합니다.
+ * 조회 시 날짜 포맷팅이나 문자열 비교 없이 배열 인덱스만으로 결과를 찾습니다.
+ */
+public final class WeatherTable {
+
+    static final int SLOT_COUNT = 366;
+    private static final short EMPTY = -1;
+    // 윤년 기준 각 월 1일의 슬롯 위치
+    private static final int[] MONTH_OFFSETS = {0, 31, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335};
+    private static final int[] MONTH_LENGTHS = {31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private final String[] dictionary;
+    private final short[] slots;
+
+    WeatherTable(String[] dictionary, short[] slots) {
+        this.dictionary = dictionary;
+        this.slots = slots;
+    }
+
+    public static WeatherTable of(WeatherDto[] weathers) {
+        Builder builder = new Builder();
+        for (WeatherDto weatherDto : weathers) {
+            builder.put(weatherDto.getDate(), weatherDto.getWeather());
+        }
+        return builder.build();
+    }
+
+    public String find(LocalDate date) {
+        short code = slots[slotOf(date)];
+        return code == EMPTY ? null : dictionary[code];
+    }
+
+    public boolean isEmpty() {
+        for (short code : slots) {
+            if (code != EMPTY) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    String[] dictionary() {
+        return dictionary;
+    }
+
+    short[] slots() {
+        return slots;
+    }
+
+    private static int slotOf(int month, int day) {
+        return MONTH_OFFSETS[month - 1] + day - 1;
+    }
+
+    /**
+     * "MM-dd" 형식의 날짜를 슬롯 위치로 변환합니다. 형식이 잘못되었거나 존재하지 않는 날짜면 -1 을 반환합니다.
+     */
+    static int slotOf(String date) {
+        if (date == null || date.length() != 5 || date.charAt(2) != '-') {
+            return -1;
+        }
+        return slotOf(date.charAt(0), date.charAt(1), date.charAt(3), date.charAt(4));
+    }
+
+    /**
+     * 문자 배열의 일부로 주어진 "MM-dd" 날짜를 문자열을 만들지 않고 슬롯 위치로 변환합니다.
+     */
+    static int slotOf(char[] chars, int offset, int length) {
+        if (length != 5 || chars[offset + 2] != '-') {
+            return -1;
+        }
+        return slotOf(chars[offset], chars[offset + 1], chars[offset + 3], chars[offset + 4]);
+    }
+
+    private static int slotOf(char month1, char month2, char day1, char day2) {
+        int month = twoDigits(month1, month2);
+        int day = twoDigits(day1, day2);
+        if (month < 1 || month > 12 || day < 1 || day > MONTH_LENGTHS[month - 1]) {
+            return -1;
+        }
+        return slotOf(month, day);
+    }
+
+    static int slotOf(LocalDate date) {
+        return slotOf(date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    private static int twoDigits(char tensDigit, char onesDigit) {
+        int tens = tensDigit - '0';
+        int ones = onesDigit - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+
+    /**
+     * 날씨 데이터를 한 건씩 받아 테이블을 만듭니다. 같은 날짜가 여러 번 나오면 처음 값을 사용합니다.
+     */
+    static final class Builder {
+
+        private final Map<String, Short> codes = new HashMap<>();
+        private final List<String> dictionary = new ArrayList<>();
+        private final short[] slots = new short[SLOT_COUNT];
+
+        Builder() {
+            Arrays.fill(slots, EMPTY);
+        }
+
+        Builder put(String date, String weather) {
+            int slot = slotOf(date);
+            if (slot < 0 || weather == null || slots[slot] != EMPTY) {
+                return this;
+            }
+            slots[slot] = codes.computeIfAbsent(weather, key -> {
+                dictionary.add(key);
+                return (short) (dictionary.size() - 1);
+            });
+            return this;
+        }
+
+        WeatherTable build() {
+            return new WeatherTable(dictionary.toArray(String[]::new), slots.clone());
+        }
+    }
+}
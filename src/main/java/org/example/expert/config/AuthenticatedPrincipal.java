@@ -0,0 +1,28 @@
+package org.example.expert.config;
+
+import jakarta.servlet.ServletRequest;
+import org.example.expert.domain.common.dto.AuthUser;
+
+/**
+ * 요청 범위에 보관하는 인증 사용자 정보입니다.
+ * JwtFilter 가 토큰을 검증한 뒤 한 번만 저장하고, AdminAccessAop 와 AuthUserArgumentResolver 는
+ * 토큰을 다시 파싱하지 않고 저장된 값을 그대로 사용합니다.
+ */
+public final class AuthenticatedPrincipal {
+
+    static final String ATTRIBUTE = AuthenticatedPrincipal.class.getName();
+
+    private AuthenticatedPrincipal() {
+    }
+
+    public static void set(ServletRequest request, AuthUser authUser) {
+        request.setAttribute(ATTRIBUTE, authUser);
+    }
+
+    /**
+     * 인증된 사용자 정보를 반환합니다. 인증을 거치지 않은 요청이면 null 을 반환합니다.
+     */
+    public static AuthUser get(ServletRequest request) {
+        return (AuthUser) request.getAttribute(ATTRIBUTE);
+    }
+}
@@ -1,20 +1,34 @@
 package org.example.expert.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.Map;
+
 @Configuration
 @RequiredArgsConstructor
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jwt.rejection-log-interval:10s}")
+    private Duration rejectionLogInterval;
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
+        JwtRouteMatcher routeMatcher = new JwtRouteMatcher(Map.of(
+                "/auth", JwtRouteMatcher.Route.PUBLIC,
+                "/admin", JwtRouteMatcher.Route.ADMIN
+        ));
+
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, routeMatcher, new JwtRejectionLogger(rejectionLogInterval, meterRegistry)));
         registrationBean.addUrlPatterns("/*"); // 필터를 적용할 URL 패턴을 지정합니다.
 
         return registrationBean;
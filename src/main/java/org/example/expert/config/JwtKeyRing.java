@@ -0,0 +1,187 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * JWT 서명 키 목록입니다. 토큰 헤더의 kid 로 검증 키를 고르고, 새 토큰은 활성 키로 서명합니다.
+ * jwt.keys.path 가 비어 있으면 jwt.secret.key 하나를 kid=default 로 사용합니다.
+ * 경로가 있으면 아래 형식의 properties 파일을 주기적으로 다시 읽으므로 재시작 없이 키를 교체할 수 있습니다.
+ * <pre>
+ * active=2026-10
+ * key.2026-10=(Base64 비밀키)
+ * key.default=(이전 비밀키, kid 가 없는 토큰 검증용)
+ * </pre>
+ * 파일에서 빠진 키도 grace-period 동안은 검증에 사용하므로, 키를 교체해도 기존 토큰이 한꺼번에 무효가 되지 않습니다.
+ * 여러 인스턴스에서는 새 키를 먼저 추가하고 reload-interval 이 지난 뒤 active 를 바꿔야 다른 인스턴스가 새 kid 를 거절하지 않습니다.
+ */
+@Slf4j(topic = "JwtKeyRing")
+@Component
+public class JwtKeyRing {
+
+    static final String DEFAULT_KID = "default";
+    private static final String ACTIVE = "active";
+    private static final String KEY_PREFIX = "key.";
+
+    private final String legacySecret;
+    private final Path path;
+    private final long gracePeriodMillis;
+    private final JwtTokenCache tokenCache;
+    // 교체할 때마다 새로 만들어 바꾸므로 읽는 쪽은 락 없이 사용합니다.
+    private volatile KeySet keySet;
+
+    public JwtKeyRing(
+            @Value("${jwt.secret.key:}") String legacySecret,
+            @Value("${jwt.keys.path:}") String path,
+            @Value("${jwt.keys.grace-period:PT1H}") Duration gracePeriod,
+            JwtTokenCache tokenCache
+    ) {
+        this.legacySecret = legacySecret;
+        this.path = StringUtils.hasText(path) ? Path.of(path) : null;
+        this.gracePeriodMillis = gracePeriod.toMillis();
+        this.tokenCache = tokenCache;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (path == null) {
+            if (!StringUtils.hasText(legacySecret)) {
+                throw new IllegalStateException("jwt.secret.key 또는 jwt.keys.path 를 설정해야 합니다.");
+            }
+            keySet = new KeySet(DEFAULT_KID, Map.of(DEFAULT_KID, toKey(legacySecret)), Map.of());
+            return;
+        }
+        try {
+            keySet = merge(new KeySet(null, Map.of(), Map.of()), read(), System.currentTimeMillis());
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("JWT 키 파일을 읽지 못했습니다. path=" + path, e);
+        }
+        log.info("JWT 키를 불러왔습니다. active={}, kids={}", keySet.activeKid(), keySet.keys().keySet());
+    }
+
+    /**
+     * 키 파일을 다시 읽어 교체합니다. 파일이 잘못되었으면 기존 키를 그대로 사용합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys.reload-interval:PT1M}", initialDelayString = "${jwt.keys.reload-interval:PT1M}")
+    public void reload() {
+        if (path == null) {
+            return;
+        }
+        KeySet previous = keySet;
+        KeySet next;
+        try {
+            next = merge(previous, read(), System.currentTimeMillis());
+        } catch (IOException | RuntimeException e) {
+            log.error("JWT 키 파일을 다시 읽지 못해 기존 키를 유지합니다. path={}, cause={}", path, e.getMessage());
+            return;
+        }
+        keySet = next;
+
+        // 같은 kid 의 비밀키가 바뀐 경우는 이전 키를 빼고 새 키를 추가한 것과 같습니다.
+        boolean replaced = hasReplacedKey(previous, next);
+        if (replaced || !previous.keys().keySet().containsAll(next.keys().keySet())) {
+            // 다른 인스턴스가 새 키로 서명한 토큰을 그 사이에 거절했을 수 있으므로 실패 결과를 지웁니다.
+            tokenCache.invalidateRejections();
+        }
+        if (replaced || !next.keys().keySet().containsAll(previous.keys().keySet())) {
+            // 더 이상 검증할 수 없는 키로 서명된 토큰이 캐시에서 계속 통과하지 않도록 비웁니다.
+            tokenCache.invalidateAll();
+        }
+        if (replaced || !next.keys().keySet().equals(previous.keys().keySet()) || !next.activeKid().equals(previous.activeKid())) {
+            log.info("JWT 키가 바뀌었습니다. active={}, kids={}, retiring={}",
+                    next.activeKid(), next.keys().keySet(), next.retainUntil().keySet());
+        }
+    }
+
+    public SigningKey active() {
+        KeySet current = keySet;
+        return new SigningKey(current.activeKid(), current.keys().get(current.activeKid()));
+    }
+
+    /**
+     * kid 에 해당하는 검증 키를 반환합니다. kid 가 없는 토큰은 default 키로 검증하고, 모르는 kid 면 null 을 반환합니다.
+     */
+    public Key resolve(String kid) {
+        return keySet.keys().get(kid == null ? DEFAULT_KID : kid);
+    }
+
+    private Properties read() throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+
+    /**
+     * 파일의 키로 새 KeySet 을 만듭니다. 이전에 있었지만 파일에서 빠진 키는 처음 빠진 시각부터 grace-period 동안 남겨 둡니다.
+     */
+    KeySet merge(KeySet previous, Properties properties, long now) {
+        Map<String, Key> keys = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(KEY_PREFIX)) {
+                keys.put(name.substring(KEY_PREFIX.length()), toKey(properties.getProperty(name)));
+            }
+        }
+        String activeKid = properties.getProperty(ACTIVE);
+        if (activeKid == null || !keys.containsKey(activeKid)) {
+            throw new IllegalArgumentException("active 로 지정한 키가 없습니다: " + activeKid);
+        }
+
+        Map<String, Long> retainUntil = new HashMap<>();
+        previous.keys().forEach((kid, key) -> {
+            if (keys.containsKey(kid)) {
+                return;
+            }
+            long until = previous.retainUntil().getOrDefault(kid, now + gracePeriodMillis);
+            if (until > now) {
+                keys.put(kid, key);
+                retainUntil.put(kid, until);
+            }
+        });
+        return new KeySet(activeKid, Map.copyOf(keys), Map.copyOf(retainUntil));
+    }
+
+    private static boolean hasReplacedKey(KeySet previous, KeySet next) {
+        for (Map.Entry<String, Key> entry : previous.keys().entrySet()) {
+            Key key = next.keys().get(entry.getKey());
+            if (key != null && !MessageDigest.isEqual(key.getEncoded(), entry.getValue().getEncoded())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Key toKey(String secret) {
+        return Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret.trim()));
+    }
+
+    public record SigningKey(String kid, Key key) {
+    }
+
+    /**
+     * @param activeKid   새 토큰을 서명할 키
+     * @param keys        검증에 사용할 수 있는 모든 키
+     * @param retainUntil 파일에서 빠졌지만 아직 검증에 사용하는 키와 그 만료 시각
+     */
+    record KeySet(String activeKid, Map<String, Key> keys, Map<String, Long> retainUntil) {
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JwtFilter 의 거절 기록입니다.
+ * 거절할 때마다 로그를 남기면 잘못된 토큰이 몰릴 때 로그 자체가 부담이 되므로,
+ * 사유별 건수만 모아 두었다가 interval 마다 한 줄로 요약해 남깁니다. 스택 추적은 남기지 않습니다.
+ * 사유별 전체 건수는 jwt.rejected{reason} 지표로 확인합니다.
+ */
+@Slf4j(topic = "JwtFilter")
+public class JwtRejectionLogger {
+
+    private final long intervalNanos;
+    private final Map<JwtVerification.Result, LongAdder> pending = new EnumMap<>(JwtVerification.Result.class);
+    private final Map<JwtVerification.Result, Counter> counters = new EnumMap<>(JwtVerification.Result.class);
+    private final LongAdder forbidden = new LongAdder();
+    private final Counter forbiddenCounter;
+    private final AtomicLong lastLoggedAt;
+
+    public JwtRejectionLogger(Duration interval, MeterRegistry meterRegistry) {
+        this.intervalNanos = interval.toNanos();
+        for (JwtVerification.Result result : JwtVerification.Result.values()) {
+            if (result != JwtVerification.Result.VALID) {
+                pending.put(result, new LongAdder());
+                counters.put(result, meterRegistry.counter("jwt.rejected", "reason", result.name()));
+            }
+        }
+        this.forbiddenCounter = meterRegistry.counter("jwt.rejected", "reason", "FORBIDDEN");
+        this.lastLoggedAt = new AtomicLong(System.nanoTime());
+    }
+
+    public void rejected(JwtVerification.Result result) {
+        pending.get(result).increment();
+        counters.get(result).increment();
+        logSummaryIfDue();
+    }
+
+    public void forbidden() {
+        forbidden.increment();
+        forbiddenCounter.increment();
+        logSummaryIfDue();
+    }
+
+    private void logSummaryIfDue() {
+        long now = System.nanoTime();
+        long last = lastLoggedAt.get();
+        // 간격이 지났을 때 한 스레드만 요약을 남깁니다.
+        if (now - last < intervalNanos || !lastLoggedAt.compareAndSet(last, now)) {
+            return;
+        }
+        StringJoiner summary = new StringJoiner(", ");
+        pending.forEach((result, count) -> {
+            long value = count.sumThenReset();
+            if (value > 0) {
+                summary.add(result.name() + "=" + value);
+            }
+        });
+        long forbiddenCount = forbidden.sumThenReset();
+        if (forbiddenCount > 0) {
+            summary.add("FORBIDDEN=" + forbiddenCount);
+        }
+        log.warn("JWT 요청 거절 요약 (최근 {}ms): {}", (now - last) / 1_000_000, summary);
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.expert.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * 요청 경로를 인증 방식별로 분류합니다.
+ * 등록된 접두사를 '/' 다음 첫 글자로 미리 나눠 두어, 요청마다 모든 접두사를 비교하지 않고 같은 글자로 시작하는 접두사만 확인합니다.
+ */
+public final class JwtRouteMatcher {
+
+    public enum Route {
+        /**
+         * 토큰 없이 접근할 수 있는 경로
+         */
+        PUBLIC,
+        /**
+         * 관리자 권한이 필요한 경로
+         */
+        ADMIN,
+        /**
+         * 로그인한 사용자면 접근할 수 있는 경로
+         */
+        AUTHENTICATED
+    }
+
+    private static final int ASCII = 128;
+
+    private final String[][] prefixesByFirstChar = new String[ASCII][];
+    private final Route[][] routesByFirstChar = new Route[ASCII][];
+
+    /**
+     * @param routes '/' 로 시작하는 경로 접두사와 분류. 여러 접두사가 겹치면 긴 접두사를 먼저 비교합니다.
+     */
+    public JwtRouteMatcher(Map<String, Route> routes) {
+        List<Map.Entry<String, Route>> sorted = new ArrayList<>(routes.entrySet());
+        sorted.sort((a, b) -> b.getKey().length() - a.getKey().length());
+
+        for (Map.Entry<String, Route> entry : sorted) {
+            String prefix = entry.getKey();
+            if (prefix.length() < 2 || prefix.charAt(0) != '/' || prefix.charAt(1) >= ASCII) {
+                throw new IllegalArgumentException("경로 접두사는 '/' 와 ASCII 문자로 시작해야 합니다: " + prefix);
+            }
+            int index = prefix.charAt(1);
+            prefixesByFirstChar[index] = append(prefixesByFirstChar[index], prefix, String[]::new);
+            routesByFirstChar[index] = append(routesByFirstChar[index], entry.getValue(), Route[]::new);
+        }
+    }
+
+    public Route classify(String path) {
+        if (path == null || path.length() < 2 || path.charAt(1) >= ASCII) {
+            return Route.AUTHENTICATED;
+        }
+        String[] prefixes = prefixesByFirstChar[path.charAt(1)];
+        if (prefixes == null) {
+            return Route.AUTHENTICATED;
+        }
+        for (int i = 0; i < prefixes.length; i++) {
+            if (path.startsWith(prefixes[i])) {
+                return routesByFirstChar[path.charAt(1)][i];
+            }
+        }
+        return Route.AUTHENTICATED;
+    }
+
+    private static <T> T[] append(T[] array, T value, IntFunction<T[]> factory) {
+        int length = array == null ? 0 : array.length;
+        T[] appended = factory.apply(length + 1);
+        if (array != null) {
+            System.arraycopy(array, 0, appended, 0, length);
+        }
+        appended[length] = value;
+        return appended;
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증을 마친 JWT 의 사용자 정보를 토큰 만료 시각까지 보관하는 캐시입니다.
+ * 같은 토큰이 다시 들어오면 서명 검증과 claims 파싱 없이 바로 사용자 정보를 돌려줍니다.
+ * 원본 토큰 대신 SHA-256 다이제스트를 키로 사용하고, 최대 개수를 넘으면 오래 쓰이지 않은 항목부터 제거합니다.
+ * 적중/미스 횟수는 cache.gets{cache=jwt} 지표로 수집됩니다.
+ * 검증에 실패한 토큰도 결과 코드만 짧게 보관해, 같은 잘못된 토큰이 반복해서 들어오면 다시 검증하지 않습니다.
+ */
+@Component
+public class JwtTokenCache {
+
+    private static final Duration REJECTION_TTL = Duration.ofMinutes(1);
+
+    private final Cache<String, VerifiedToken> cache;
+    private final Cache<String, JwtVerification.Result> rejections;
+
+    public JwtTokenCache(
+            @Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        this.rejections = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(REJECTION_TTL)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt");
+        CaffeineCacheMetrics.monitor(meterRegistry, rejections, "jwt-rejected");
+    }
+
+    /**
+     * 다이제스트로 검증된 토큰 정보를 찾습니다. 없으면 null 을 반환합니다.
+     */
+    public VerifiedToken getIfPresent(String digest) {
+        return cache.getIfPresent(digest);
+    }
+
+    public void put(String digest, VerifiedToken verified) {
+        cache.put(digest, verified);
+    }
+
+    /**
+     * 최근에 검증에 실패한 토큰이면 그 결과를, 아니면 null 을 반환합니다.
+     */
+    public JwtVerification.Result getRejection(String digest) {
+        return rejections.getIfPresent(digest);
+    }
+
+    public void putRejection(String digest, JwtVerification.Result result) {
+        rejections.put(digest, result);
+    }
+
+    /**
+     * 검증 키가 제거되었을 때 호출합니다. 제거된 키로 서명된 토큰이 캐시에서 계속 통과하지 않게 합니다.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 검증 키가 추가되었을 때 호출합니다. 새 키로 서명되어 그 전에 거절된 토큰을 다시 검증하게 합니다.
+     */
+    public void invalidateRejections() {
+        rejections.invalidateAll();
+    }
+
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record VerifiedToken(AuthUser authUser, long issuedAtMillis, long expiresAtMillis) {
+    }
+
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
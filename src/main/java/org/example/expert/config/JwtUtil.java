@@ -1,19 +1,24 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SecurityException;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.security.Key;
-import java.util.Base64;
 import java.util.Date;
 
 @Slf4j(topic = "JwtUtil")
@@ -21,30 +26,50 @@ import java.util.Date;
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    // iat 는 초 단위라 폐기와 같은 초에 발급된 토큰이 폐기 전후 어느 쪽인지 알 수 없으므로, 밀리초 발급 시각을 따로 담습니다.
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iatMs";
 
-    @Value("${jwt.secret.key}")
-    private String secretKey;
-    private Key key;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    private final JwtKeyRing keyRing;
+    // 파서는 불변이고 스레드에 안전하므로 한 번만 만들어 모든 요청에서 재사용합니다.
+    // 검증 키는 토큰 헤더의 kid 로 매번 키 목록에서 고르므로, 키를 교체해도 파서를 다시 만들 필요가 없습니다.
+    private final JwtParser jwtParser;
+    private final JwtTokenCache tokenCache;
+    private final TokenRevocationList tokenRevocationList;
 
-    @PostConstruct
-    public void init() {
-        byte[] bytes = Base64.getDecoder().decode(secretKey);
-        key = Keys.hmacShaKeyFor(bytes);
+    public JwtUtil(JwtKeyRing keyRing, JwtTokenCache tokenCache, TokenRevocationList tokenRevocationList) {
+        this.keyRing = keyRing;
+        this.tokenCache = tokenCache;
+        this.tokenRevocationList = tokenRevocationList;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = keyRing.resolve(header.getKeyId());
+                        if (key == null) {
+                            throw new SignatureException("알 수 없는 서명 키입니다: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
         Date date = new Date();
+        JwtKeyRing.SigningKey signingKey = keyRing.active();
 
         return BEARER_PREFIX +
                 Jwts.builder()
+                        .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
                         .setSubject(String.valueOf(userId))
                         .claim("email", email)
                         .claim("userRole", userRole)
                         .setExpiration(new Date(date.getTime() + TOKEN_TIME))
                         .setIssuedAt(date) // 발급일
-                        .signWith(key, signatureAlgorithm) // 암호화 알고리즘
+                        .claim(ISSUED_AT_MILLIS_CLAIM, date.getTime())
+                        .signWith(signingKey.key(), signatureAlgorithm) // 암호화 알고리즘
                         .compact();
     }
 
@@ -56,10 +81,96 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
+
+    /**
+     * Authorization 헤더 값을 검증하고 결과 코드를 반환합니다. 잘못된 값이어도 예외를 던지지 않습니다.
+     * 헤더 형식과 토큰 구조는 문자열 검사만으로 먼저 거르고, 같은 토큰의 검증 결과는 성공/실패 모두 캐시에서 가져옵니다.
+     * 서명이 유효해도 폐기 목록에 있는 토큰이면 REVOKED 를 반환합니다. 폐기는 나중에 생길 수 있으므로 캐시 적중 시에도 매번 확인합니다.
+     */
+    public JwtVerification verify(String bearerHeader) {
+        if (bearerHeader == null) {
+            return JwtVerification.rejected(JwtVerification.Result.MISSING);
+        }
+        if (!bearerHeader.startsWith(BEARER_PREFIX) || bearerHeader.length() == BEARER_PREFIX.length()) {
+            return JwtVerification.rejected(JwtVerification.Result.INVALID_HEADER);
+        }
+        String token = bearerHeader.substring(BEARER_PREFIX.length());
+        if (!hasCompactJwsShape(token)) {
+            return JwtVerification.rejected(JwtVerification.Result.INVALID_SIGNATURE);
+        }
+
+        String digest = JwtTokenCache.digest(token);
+        JwtTokenCache.VerifiedToken cached = tokenCache.getIfPresent(digest);
+        if (cached != null) {
+            return checkRevocation(cached);
+        }
+        JwtVerification.Result rejection = tokenCache.getRejection(digest);
+        if (rejection != null) {
+            return JwtVerification.rejected(rejection);
+        }
+
+        JwtVerification.Result result;
+        try {
+            JwtTokenCache.VerifiedToken verified = toVerifiedToken(extractClaims(token));
+            tokenCache.put(digest, verified);
+            return checkRevocation(verified);
+        } catch (SecurityException | MalformedJwtException e) {
+            result = JwtVerification.Result.INVALID_SIGNATURE;
+        } catch (ExpiredJwtException e) {
+            result = JwtVerification.Result.EXPIRED;
+        } catch (UnsupportedJwtException e) {
+            result = JwtVerification.Result.UNSUPPORTED;
+        } catch (RuntimeException e) {
+            result = JwtVerification.Result.INVALID;
+        }
+        tokenCache.putRejection(digest, result);
+        return JwtVerification.rejected(result);
+    }
+
+    private JwtVerification checkRevocation(JwtTokenCache.VerifiedToken verified) {
+        if (tokenRevocationList.isRevoked(verified.authUser().getId(), verified.issuedAtMillis())) {
+            return JwtVerification.rejected(JwtVerification.Result.REVOKED);
+        }
+        return JwtVerification.valid(verified.authUser());
+    }
+
+    private static JwtTokenCache.VerifiedToken toVerifiedToken(Claims claims) {
+        AuthUser authUser = new AuthUser(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                UserRole.valueOf(claims.get("userRole", String.class))
+        );
+        // 만료 시각이 없는 토큰은 캐싱하지 않습니다.
+        long expiresAt = claims.getExpiration() == null ? 0 : claims.getExpiration().getTime();
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        long issuedAt = issuedAtMillis != null ? issuedAtMillis
+                : claims.getIssuedAt() == null ? 0 : claims.getIssuedAt().getTime();
+        return new JwtTokenCache.VerifiedToken(authUser, issuedAt, expiresAt);
+    }
+
+    /**
+     * header.payload.signature 형태로, 세 부분이 모두 비어 있지 않고 Base64URL 문자로만 이루어졌는지 확인합니다.
+     */
+    static boolean hasCompactJwsShape(String token) {
+        int dots = 0;
+        int partLength = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (partLength == 0 || ++dots > 2) {
+                    return false;
+                }
+                partLength = 0;
+            } else if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_') {
+                partLength++;
+            } else {
+                return false;
+            }
+        }
+        return dots == 2 && partLength > 0;
+    }
 }
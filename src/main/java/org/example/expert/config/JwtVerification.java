@@ -0,0 +1,53 @@
+package org.example.expert.config;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.expert.domain.common.dto.AuthUser;
+
+/**
+ * Authorization 헤더 검증 결과입니다.
+ * 잘못된 토큰을 예외 대신 결과 코드로 돌려주므로, 잘못된 토큰이 대량으로 들어와도 예외 생성과 스택 추적 비용이 들지 않습니다.
+ *
+ * @param result   검증 결과
+ * @param authUser 검증에 성공한 경우의 사용자 정보, 실패하면 null
+ */
+public record JwtVerification(Result result, AuthUser authUser) {
+
+    public enum Result {
+        VALID(HttpServletResponse.SC_OK, null),
+        MISSING(HttpServletResponse.SC_BAD_REQUEST, "JWT 토큰이 필요합니다."),
+        INVALID_HEADER(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다."),
+        INVALID_SIGNATURE(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다."),
+        EXPIRED(HttpServletResponse.SC_UNAUTHORIZED, "만료된 JWT 토큰입니다."),
+        REVOKED(HttpServletResponse.SC_UNAUTHORIZED, "폐기된 JWT 토큰입니다. 다시 로그인해 주세요."),
+        UNSUPPORTED(HttpServletResponse.SC_BAD_REQUEST, "지원되지 않는 JWT 토큰입니다."),
+        INVALID(HttpServletResponse.SC_BAD_REQUEST, "유효하지 않는 JWT 토큰입니다.");
+
+        private final int httpStatus;
+        private final String message;
+
+        Result(int httpStatus, String message) {
+            this.httpStatus = httpStatus;
+            this.message = message;
+        }
+
+        public int getHttpStatus() {
+            return httpStatus;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    public static JwtVerification valid(AuthUser authUser) {
+        return new JwtVerification(Result.VALID, authUser);
+    }
+
+    public static JwtVerification rejected(Result result) {
+        return new JwtVerification(result, null);
+    }
+
+    public boolean isValid() {
+        return result == Result.VALID;
+    }
+}
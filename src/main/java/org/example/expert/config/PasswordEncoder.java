@@ -1,17 +1,113 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
+@Slf4j(topic = "PasswordEncoder")
 @Component
 public class PasswordEncoder {
 
+    // bcrypt 연산은 요청 스레드가 아닌 전용 스레드 풀에서 실행합니다.
+    private final PasswordHashingExecutor hashingExecutor;
+    private final int fixedCost;
+    private final Duration targetLatency;
+    private final int maxCost;
+    private final int minCost;
+    private int cost = BCrypt.MIN_COST;
+
+    public PasswordEncoder(
+            PasswordHashingExecutor hashingExecutor,
+            @Value("${password.bcrypt.cost:0}") int fixedCost,
+            @Value("${password.bcrypt.target-latency:250ms}") Duration targetLatency,
+            @Value("${password.bcrypt.max-cost:14}") int maxCost,
+            @Value("${password.bcrypt.min-cost:10}") int minCost
+    ) {
+        this.hashingExecutor = hashingExecutor;
+        this.fixedCost = fixedCost;
+        this.targetLatency = targetLatency;
+        this.maxCost = maxCost;
+        this.minCost = minCost;
+    }
+
+    /**
+     * 비용을 직접 지정하지 않았으면, 실행 중인 서버에서 해시 한 번이 목표 시간 안에 끝나는 가장 큰 비용을 고릅니다.
+     * 느리거나 바쁜 서버에서 계산해도 min-cost 보다 낮아지지는 않습니다.
+     */
+    @PostConstruct
+    public void init() {
+        cost = fixedCost > 0 ? fixedCost : Math.max(minCost, calibrate(targetLatency, maxCost));
+        log.info("bcrypt 비용을 {} 로 설정했습니다. targetLatency={}", cost, targetLatency);
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        int currentCost = cost;
+        return hashingExecutor.execute("encode",
+                () -> BCrypt.withDefaults().hashToString(currentCost, rawPassword.toCharArray()));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return hashingExecutor.execute("matches", () -> {
+            BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+            return result.verified;
+        });
+    }
+
+    /**
+     * 저장된 해시의 비용이 현재 비용보다 낮으면 true 를 반환합니다. 로그인에 성공했을 때 다시 해싱하는 데 사용합니다.
+     * 서버마다 계산한 비용이 다를 수 있으므로, 더 높은 비용의 해시는 낮추지 않고 그대로 둡니다.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return costOf(encodedPassword) < cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * bcrypt 는 비용이 1 오를 때마다 처리 시간이 두 배가 되므로,
+     * 다음 비용이 목표 시간을 넘을 것으로 보이면 더 측정하지 않고 멈춥니다.
+     */
+    static int calibrate(Duration targetLatency, int maxCost) {
+        char[] sample = "calibration-password".toCharArray();
+        long targetNanos = targetLatency.toNanos();
+        // JIT 워밍업
+        BCrypt.withDefaults().hash(BCrypt.MIN_COST, sample);
+
+        int chosen = BCrypt.MIN_COST;
+        for (int candidate = BCrypt.MIN_COST; candidate <= Math.min(maxCost, BCrypt.MAX_COST); candidate++) {
+            long startedAt = System.nanoTime();
+            BCrypt.withDefaults().hash(candidate, sample);
+            long elapsed = System.nanoTime() - startedAt;
+            if (elapsed > targetNanos) {
+                break;
+            }
+            chosen = candidate;
+            if (elapsed * 2 > targetNanos) {
+                break;
+            }
+        }
+        return chosen;
+    }
+
+    /**
+     * "$2a$10$..." 형식의 해시에서 비용을 읽습니다. 형식이 다르면 -1 을 반환합니다.
+     */
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = encodedPassword.charAt(4);
+        char ones = encodedPassword.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
     }
 }
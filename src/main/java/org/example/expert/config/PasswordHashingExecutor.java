@@ -0,0 +1,107 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * bcrypt 해싱/검증 전용 스레드 풀입니다.
+ * bcrypt 는 일부러 CPU 를 많이 쓰는 연산이라 요청 스레드에서 바로 실행하면 로그인이 몰릴 때 다른 API 까지 느려집니다.
+ * 스레드 수를 CPU 코어 수로, 대기열을 고정 크기로 제한하고, 대기열에 자리가 없으면 admission-wait 만큼만 기다린 뒤 429 로 거절합니다.
+ * 한 번 받아들인 작업은 중간에 멈출 수 없으므로 결과를 끝까지 기다리고, 대기 시간의 상한은 대기열 크기로 정합니다.
+ * 연산별 처리 시간은 password.hashing{operation} 지표로 수집됩니다.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(
+            @Value("${password.hashing.threads:0}") int threads,
+            @Value("${password.hashing.queue-capacity:0}") int queueCapacity,
+            @Value("${password.hashing.admission-wait:50ms}") Duration admissionWait,
+            MeterRegistry meterRegistry
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        // 대기열이 길면 받아들인 요청도 결국 오래 기다리므로, 기본값은 스레드마다 두 개씩만 대기시킵니다.
+        int capacity = queueCapacity > 0 ? queueCapacity : poolSize * 2;
+        long admissionWaitMillis = admissionWait.toMillis();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> {
+                    // 대기열이 가득 찼을 때만 호출됩니다. 잠깐 자리가 나길 기다려 보고, 없으면 거절합니다.
+                    try {
+                        if (!pool.isShutdown() && pool.getQueue().offer(runnable, admissionWaitMillis, TimeUnit.MILLISECONDS)) {
+                            return;
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new RejectedExecutionException();
+                });
+        this.meterRegistry = meterRegistry;
+        this.rejectedCounter = meterRegistry.counter("password.hashing.rejected");
+        new ExecutorServiceMetrics(executor, "password-hashing", List.of()).bindTo(meterRegistry);
+    }
+
+    /**
+     * 해싱 작업을 전용 스레드에서 실행하고 결과를 기다립니다.
+     * 대기열에 자리가 없으면 작업을 실행하지 않고 TooManyRequestsException 을 던집니다.
+     */
+    public <T> T execute(String operation, Supplier<T> task) {
+        Timer timer = meterRegistry.timer("password.hashing", "operation", operation);
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.record(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new TooManyRequestsException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        try {
+            return future.get();
+        } catch (CancellationException e) {
+            throw new IllegalStateException("비밀번호 처리 작업이 취소되었습니다.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 대기열에 남은 작업을 취소해 결과를 기다리던 요청 스레드가 멈춰 있지 않게 합니다.
+        executor.shutdownNow().forEach(runnable -> ((Future<?>) runnable).cancel(false));
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.expert.config;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자 id 용 Bloom filter 입니다.
+ * mightContain 이 false 면 확실히 없는 것이고, true 면 드물게 오탐일 수 있습니다.
+ * 비트를 AtomicLongArray 에 저장하므로 add 와 mightContain 을 동시에 호출해도 안전하고, 조회는 락이나 할당 없이 몇 번의 메모리 접근으로 끝납니다.
+ * 제거는 지원하지 않으므로, 지워야 할 항목이 생기면 새로 만들어 교체합니다.
+ */
+final class RevocationBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    RevocationBloomFilter(int expectedEntries, double falsePositiveRate) {
+        int entries = Math.max(1, expectedEntries);
+        long optimalBits = (long) Math.ceil(-entries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / entries * Math.log(2)));
+    }
+
+    void add(long value) {
+        long hash = mix(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = indexOf(h1 + i * h2);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(long value) {
+        long hash = mix(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = indexOf(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    private long indexOf(int combinedHash) {
+        // 음수가 나오지 않도록 비트를 뒤집은 뒤 전체 비트 수로 나눕니다. (Kirsch-Mitzenmacher 이중 해싱)
+        return (combinedHash < 0 ? ~combinedHash : combinedHash) % bitCount;
+    }
+
+    // 연속된 사용자 id 가 고르게 퍼지도록 SplitMix64 로 섞습니다.
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 만료 전에 폐기된 JWT 목록입니다. 사용자 단위로 "이 시각 이전에 발급된 토큰은 모두 폐기"를 기록합니다.
+ * 기록은 token_revocations 테이블에 저장하고, 메모리에는 Bloom filter 와 사용자별 폐기 시각을 함께 둡니다.
+ * 대부분의 요청은 폐기 기록이 없는 사용자의 것이므로 Bloom filter 만 확인하고 DB 조회 없이 끝납니다.
+ * 다른 인스턴스에서 추가된 기록을 반영하고 만료된 기록을 지우기 위해 주기적으로 테이블에서 다시 읽어 교체합니다.
+ */
+@Slf4j(topic = "TokenRevocationList")
+@Component
+public class TokenRevocationList {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final int expectedEntries;
+    private final Counter bloomNegativeCounter;
+    private final Counter falsePositiveCounter;
+    private final Counter revokedCounter;
+    private volatile Snapshot snapshot;
+
+    public TokenRevocationList(
+            TokenRevocationRepository tokenRevocationRepository,
+            @Value("${jwt.revocation.expected-entries:10000}") int expectedEntries,
+            MeterRegistry meterRegistry
+    ) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.expectedEntries = expectedEntries;
+        this.snapshot = new Snapshot(new RevocationBloomFilter(expectedEntries, FALSE_POSITIVE_RATE), new ConcurrentHashMap<>());
+        this.bloomNegativeCounter = meterRegistry.counter("jwt.revocation.checks", "result", "bloom-negative");
+        this.falsePositiveCounter = meterRegistry.counter("jwt.revocation.checks", "result", "false-positive");
+        this.revokedCounter = meterRegistry.counter("jwt.revocation.checks", "result", "revoked");
+        Gauge.builder("jwt.revocation.entries", this, list -> list.snapshot.revokedBefore.size())
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * issuedAtMillis 에 발급된 사용자의 토큰이 폐기되었는지 확인합니다.
+     */
+    public boolean isRevoked(long userId, long issuedAtMillis) {
+        Snapshot current = snapshot;
+        if (!current.bloomFilter.mightContain(userId)) {
+            bloomNegativeCounter.increment();
+            return false;
+        }
+        Long revokedBefore = current.revokedBefore.get(userId);
+        if (revokedBefore == null) {
+            falsePositiveCounter.increment();
+            return false;
+        }
+        if (issuedAtMillis < revokedBefore) {
+            revokedCounter.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 지금까지 발급된 사용자의 토큰을 모두 폐기합니다.
+     * 호출한 트랜잭션이 커밋된 뒤에 메모리에 반영하므로, 롤백되면 토큰도 그대로 유효합니다.
+     */
+    public void revokeAll(long userId) {
+        long now = System.currentTimeMillis();
+        // 지금 이 밀리초까지 발급된 토큰을 폐기합니다. 폐기 직후 다시 로그인해 받은 토큰은 그대로 통과합니다.
+        long revokedBefore = now + 1;
+        long expiresAt = revokedBefore + JwtUtil.TOKEN_TIME;
+
+        TokenRevocation revocation = tokenRevocationRepository.findById(userId)
+                .orElseGet(() -> new TokenRevocation(userId, revokedBefore, expiresAt));
+        revocation.extend(revokedBefore, expiresAt);
+        tokenRevocationRepository.save(revocation);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(userId, revokedBefore);
+                }
+            });
+        } else {
+            apply(userId, revokedBefore);
+        }
+    }
+
+    /**
+     * 만료된 기록을 테이블에서 지우고, 남은 기록으로 Bloom filter 를 새로 만들어 교체합니다.
+     * Bloom filter 는 항목을 지울 수 없으므로 만료된 사용자는 교체할 때 빠집니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval:PT1M}", initialDelayString = "${jwt.revocation.refresh-interval:PT1M}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        int pruned = tokenRevocationRepository.deleteExpired(now);
+        // 읽는 동안 커밋된 폐기가 교체로 사라지지 않도록 apply 와 같은 락 안에서 읽고 교체합니다.
+        synchronized (this) {
+            List<TokenRevocation> revocations = tokenRevocationRepository.findByExpiresAtGreaterThan(now);
+            RevocationBloomFilter bloomFilter = new RevocationBloomFilter(
+                    Math.max(expectedEntries, revocations.size() * 2), FALSE_POSITIVE_RATE);
+            Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+            for (TokenRevocation revocation : revocations) {
+                bloomFilter.add(revocation.getUserId());
+                revokedBefore.put(revocation.getUserId(), revocation.getRevokedBefore());
+            }
+            snapshot = new Snapshot(bloomFilter, revokedBefore);
+        }
+        if (pruned > 0) {
+            log.debug("만료된 토큰 폐기 기록 {} 건을 정리했습니다.", pruned);
+        }
+    }
+
+    private synchronized void apply(long userId, long revokedBefore) {
+        Snapshot current = snapshot;
+        // 조회하는 쪽이 Bloom filter 를 통과했을 때 시각이 보이도록 시각을 먼저 기록합니다.
+        current.revokedBefore.merge(userId, revokedBefore, Math::max);
+        current.bloomFilter.add(userId);
+    }
+
+    private record Snapshot(RevocationBloomFilter bloomFilter, Map<Long, Long> revokedBefore) {
+    }
+}
@@ -1,12 +1,17 @@
 package org.example.expert.domain.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.auth.dto.request.RefreshRequest;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.response.RefreshResponse;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.service.AuthRateLimiter;
 import org.example.expert.domain.auth.service.AuthService;
+import org.example.expert.domain.auth.service.ClientIpResolver;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
@@ -16,14 +21,24 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthRateLimiter authRateLimiter;
+    private final ClientIpResolver clientIpResolver;
 
     @PostMapping("/auth/signup")
-    public SignupResponse signup(@Valid @RequestBody SignupRequest signupRequest) {
+    public SignupResponse signup(@Valid @RequestBody SignupRequest signupRequest, HttpServletRequest request) {
+        authRateLimiter.check(signupRequest.getEmail(), clientIpResolver.resolve(request));
         return authService.signup(signupRequest);
     }
 
     @PostMapping("/auth/signin")
-    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest) {
+    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest, HttpServletRequest request) {
+        authRateLimiter.check(signinRequest.getEmail(), clientIpResolver.resolve(request));
         return authService.signin(signinRequest);
     }
+
+    @PostMapping("/auth/refresh")
+    public RefreshResponse refresh(@Valid @RequestBody RefreshRequest refreshRequest) {
+        // bcrypt 를 거치지 않고 256비트 난수라 추측할 수도 없으므로 로그인 요청 제한을 적용하지 않습니다.
+        return authService.refresh(refreshRequest);
+    }
 }
@@ -0,0 +1,15 @@
+package org.example.expert.domain.auth.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshRequest {
+
+    @NotBlank
+    private String refreshToken;
+}
@@ -0,0 +1,41 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리프레시 토큰입니다. 원본 토큰은 저장하지 않고 SHA-256 해시만 저장합니다.
+ * 한 번 사용하면 usedAt 을 기록하고 같은 family 의 새 토큰으로 교체합니다.
+ * 이미 사용된 토큰이 다시 들어오면 탈취된 것으로 보고 family 전체를 폐기합니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id"),
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+public class RefreshToken {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "token_hash", nullable = false, unique = true, length = 43)
+    private String tokenHash;
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt; // epoch millis
+    @Column(name = "used_at")
+    private Long usedAt; // epoch millis, 아직 사용하지 않았으면 null
+
+    public RefreshToken(String tokenHash, Long userId, String familyId, long expiresAt) {
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
+    }
+}
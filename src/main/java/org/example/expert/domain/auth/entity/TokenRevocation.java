@@ -0,0 +1,36 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 토큰 폐기 기록입니다.
+ * revokedBefore 보다 먼저 발급된 해당 사용자의 토큰은 모두 폐기된 것으로 봅니다.
+ * expiresAt 이 지나면 그 전에 발급된 토큰도 모두 만료되므로 기록을 지워도 됩니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "token_revocations", indexes = @Index(name = "idx_token_revocations_expires_at", columnList = "expires_at"))
+public class TokenRevocation {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+    @Column(name = "revoked_before", nullable = false)
+    private long revokedBefore; // epoch millis
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt; // epoch millis
+
+    public TokenRevocation(Long userId, long revokedBefore, long expiresAt) {
+        this.userId = userId;
+        this.revokedBefore = revokedBefore;
+        this.expiresAt = expiresAt;
+    }
+
+    public void extend(long revokedBefore, long expiresAt) {
+        this.revokedBefore = Math.max(this.revokedBefore, revokedBefore);
+        this.expiresAt = Math.max(this.expiresAt, expiresAt);
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.expert.domain.auth.repository;
+
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * 아직 사용하지 않은 토큰만 사용 처리합니다. 동시에 같은 토큰으로 요청해도 한 요청만 1을 받습니다.
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.usedAt = :now WHERE r.id = :id AND r.usedAt IS NULL")
+    int markUsed(@Param("id") Long id, @Param("now") long now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") long now);
+}
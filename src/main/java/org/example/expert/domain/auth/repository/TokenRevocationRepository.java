@@ -0,0 +1,20 @@
+package org.example.expert.domain.auth.repository;
+
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    List<TokenRevocation> findByExpiresAtGreaterThan(long now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TokenRevocation r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") long now);
+}
@@ -0,0 +1,34 @@
+package org.example.expert.domain.auth.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * /auth 요청 제한 설정입니다. 버킷은 refillPeriod 동안 capacity 개의 토큰을 고르게 다시 채웁니다.
+ *
+ * @param enabled           요청 제한 사용 여부
+ * @param emailCapacity     이메일별 최대 연속 요청 수
+ * @param emailRefillPeriod 이메일별 버킷이 가득 차기까지 걸리는 시간
+ * @param ipCapacity        IP 별 최대 연속 요청 수
+ * @param ipRefillPeriod    IP 별 버킷이 가득 차기까지 걸리는 시간
+ * @param stripes           잠금을 나누는 stripe 수
+ * @param maxKeys           종류별로 보관하는 최대 버킷 수
+ * @param idleTimeout       이 시간 동안 쓰이지 않은 버킷은 제거합니다 (refillPeriod 이상이어야 합니다)
+ * @param trustedProxies    X-Forwarded-For 를 믿을 로드 밸런서/리버스 프록시의 IP 또는 CIDR
+ */
+@ConfigurationProperties(prefix = "auth.rate-limit")
+public record AuthRateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5") int emailCapacity,
+        @DefaultValue("1m") Duration emailRefillPeriod,
+        @DefaultValue("20") int ipCapacity,
+        @DefaultValue("1m") Duration ipRefillPeriod,
+        @DefaultValue("64") int stripes,
+        @DefaultValue("100000") int maxKeys,
+        @DefaultValue("10m") Duration idleTimeout,
+        @DefaultValue({"127.0.0.0/8", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16", "::1"}) List<String> trustedProxies
+) {
+}
@@ -0,0 +1,81 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 로그인/회원가입 요청을 이메일과 클라이언트 IP 별 토큰 버킷으로 제한합니다.
+ * 각 시도는 bcrypt 연산과 users 테이블 조회를 일으키므로, 크리덴셜 스터핑 같은 대량 시도가
+ * CPU 와 DB 를 모두 차지하지 못하도록 서비스 호출 전에 거절합니다.
+ */
+@Slf4j(topic = "AuthRateLimiter")
+@Component
+@EnableConfigurationProperties(AuthRateLimitProperties.class)
+public class AuthRateLimiter {
+
+    private final AuthRateLimitProperties properties;
+    private final StripedTokenBuckets emailBuckets;
+    private final StripedTokenBuckets ipBuckets;
+    private final Counter emailRejectedCounter;
+    private final Counter ipRejectedCounter;
+    private final Counter allowedCounter;
+    private final Counter evictedCounter;
+
+    public AuthRateLimiter(AuthRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.emailBuckets = new StripedTokenBuckets(properties.stripes(), properties.emailCapacity(),
+                properties.emailRefillPeriod().toNanos(), properties.maxKeys());
+        this.ipBuckets = new StripedTokenBuckets(properties.stripes(), properties.ipCapacity(),
+                properties.ipRefillPeriod().toNanos(), properties.maxKeys());
+        this.allowedCounter = meterRegistry.counter("auth.rate.limit.allowed");
+        this.emailRejectedCounter = meterRegistry.counter("auth.rate.limit.rejected", "key", "email");
+        this.ipRejectedCounter = meterRegistry.counter("auth.rate.limit.rejected", "key", "ip");
+        this.evictedCounter = meterRegistry.counter("auth.rate.limit.evicted");
+        Gauge.builder("auth.rate.limit.buckets", emailBuckets, StripedTokenBuckets::size)
+                .tag("key", "email")
+                .register(meterRegistry);
+        Gauge.builder("auth.rate.limit.buckets", ipBuckets, StripedTokenBuckets::size)
+                .tag("key", "ip")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청을 허용할 수 없으면 TooManyRequestsException 을 던집니다.
+     * IP 제한을 먼저 확인해, IP 단위로 막힌 요청이 다른 계정의 이메일 버킷을 소모하지 않게 합니다.
+     */
+    public void check(String email, String clientIp) {
+        if (!properties.enabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+
+        if (clientIp != null && !ipBuckets.tryAcquire(clientIp, now)) {
+            ipRejectedCounter.increment();
+            throw new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        if (email != null && !emailBuckets.tryAcquire(email.trim().toLowerCase(Locale.ROOT), now)) {
+            emailRejectedCounter.increment();
+            throw new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        allowedCounter.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${auth.rate-limit.eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        long idleNanos = properties.idleTimeout().toNanos();
+        int evicted = emailBuckets.evictIdle(now, idleNanos) + ipBuckets.evictIdle(now, idleNanos);
+        if (evicted > 0) {
+            evictedCounter.increment(evicted);
+            log.debug("사용되지 않은 요청 제한 버킷 {} 개를 정리했습니다.", evicted);
+        }
+    }
+}
@@ -3,8 +3,10 @@ package org.example.expert.domain.auth.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.RefreshRequest;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.response.RefreshResponse;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.exception.AuthException;
@@ -12,7 +14,9 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -21,8 +25,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final UserRepository userRepository;
+    private final UserService userService;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
 
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
@@ -43,10 +49,14 @@ public class AuthService {
         User savedUser = userRepository.save(newUser);
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+        String refreshToken = refreshTokenService.issue(savedUser.getId());
 
-        return new SignupResponse(bearerToken);
+        return new SignupResponse(bearerToken, refreshToken);
     }
 
+    // bcrypt 검증과 재해싱은 각각 수백 ms 가 걸리므로 트랜잭션 밖에서 실행하고,
+    // DB 커넥션은 사용자 조회, 해시 갱신, 리프레시 토큰 발급의 짧은 트랜잭션에서만 사용합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SigninResponse signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
@@ -56,8 +66,32 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // 저장된 해시의 비용이 현재 설정보다 낮으면 로그인에 성공한 비밀번호로 다시 해싱합니다.
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            String rehashed = passwordEncoder.encode(signinRequest.getPassword());
+            userService.updatePasswordHash(user.getId(), user.getPassword(), rehashed);
+        }
+
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String refreshToken = refreshTokenService.issue(user.getId());
+
+        return new SigninResponse(bearerToken, refreshToken);
+    }
+
+    /**
+     * 비밀번호 검증 없이 리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰을 발급합니다.
+     * 권한이 바뀌었을 수 있으므로 사용자 정보는 매번 다시 읽습니다.
+     * 재사용된 토큰의 폐기 결과가 롤백되지 않도록 AuthException 으로는 롤백하지 않습니다.
+     */
+    @Transactional(noRollbackFor = AuthException.class)
+    public RefreshResponse refresh(RefreshRequest refreshRequest) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshRequest.getRefreshToken());
+
+        User user = userRepository.findById(rotation.userId()).orElseThrow(
+                () -> new AuthException("가입되지 않은 유저입니다."));
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
 
-        return new SigninResponse(bearerToken);
+        return new RefreshResponse(bearerToken, rotation.refreshToken());
     }
 }
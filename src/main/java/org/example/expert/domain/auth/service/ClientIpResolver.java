@@ -0,0 +1,147 @@
+package org.example.expert.domain.auth.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * 요청 제한의 IP 키로 쓸 클라이언트 IP 를 찾습니다.
+ * 로드 밸런서 뒤에서는 getRemoteAddr 가 모두 프록시 주소이므로, 신뢰하는 프록시에서 온 요청만 X-Forwarded-For 를 읽습니다.
+ * 헤더는 오른쪽부터 읽어 신뢰하는 프록시가 아닌 첫 주소를 클라이언트로 보므로, 클라이언트가 헤더 앞쪽에 넣은 값으로는 버킷을 바꿀 수 없습니다.
+ */
+@Component
+@EnableConfigurationProperties(AuthRateLimitProperties.class)
+public class ClientIpResolver {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final List<IpRange> trustedProxies;
+
+    public ClientIpResolver(AuthRateLimitProperties properties) {
+        this.trustedProxies = properties.trustedProxies().stream()
+                .map(IpRange::parse)
+                .toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String clientIp = request.getRemoteAddr();
+        if (!isTrustedProxy(clientIp)) {
+            return clientIp;
+        }
+
+        List<String> hops = forwardedFor(request);
+        for (int i = hops.size() - 1; i >= 0; i--) {
+            clientIp = hops.get(i);
+            if (!isTrustedProxy(clientIp)) {
+                break;
+            }
+        }
+        return clientIp;
+    }
+
+    private boolean isTrustedProxy(String ip) {
+        InetAddress address = parseLiteral(ip);
+        if (address == null) {
+            return false;
+        }
+        for (IpRange trustedProxy : trustedProxies) {
+            if (trustedProxy.contains(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> forwardedFor(HttpServletRequest request) {
+        List<String> hops = new ArrayList<>();
+        Enumeration<String> headers = request.getHeaders(FORWARDED_FOR);
+        while (headers != null && headers.hasMoreElements()) {
+            for (String hop : headers.nextElement().split(",")) {
+                String trimmed = hop.trim();
+                if (!trimmed.isEmpty()) {
+                    hops.add(trimmed);
+                }
+            }
+        }
+        return hops;
+    }
+
+    /**
+     * IP 리터럴만 변환하고, 호스트 이름처럼 보이는 값은 DNS 를 조회하지 않고 null 을 반환합니다.
+     */
+    static InetAddress parseLiteral(String ip) {
+        if (ip == null || ip.isEmpty()) {
+            return null;
+        }
+        try {
+            if (ip.indexOf(':') >= 0) {
+                // 대괄호로 감싸면 IPv6 리터럴로만 해석하고 실패해도 DNS 를 조회하지 않습니다.
+                return InetAddress.getByName(ip.startsWith("[") ? ip : "[" + ip + "]");
+            }
+            String[] octets = ip.split("\\.", -1);
+            if (octets.length != 4) {
+                return null;
+            }
+            byte[] bytes = new byte[4];
+            for (int i = 0; i < 4; i++) {
+                if (octets[i].isEmpty() || octets[i].length() > 3 || !octets[i].chars().allMatch(Character::isDigit)) {
+                    return null;
+                }
+                int octet = Integer.parseInt(octets[i]);
+                if (octet > 255) {
+                    return null;
+                }
+                bytes[i] = (byte) octet;
+            }
+            return InetAddress.getByAddress(bytes);
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    /**
+     * "10.0.0.0/8" 같은 CIDR 또는 단일 IP 입니다.
+     */
+    record IpRange(byte[] network, int prefixLength) {
+
+        static IpRange parse(String value) {
+            String trimmed = value.trim();
+            int slash = trimmed.indexOf('/');
+            InetAddress address = parseLiteral(slash < 0 ? trimmed : trimmed.substring(0, slash));
+            if (address == null) {
+                throw new IllegalArgumentException("신뢰하는 프록시 주소가 올바르지 않습니다: " + value);
+            }
+            byte[] network = address.getAddress();
+            int prefixLength = slash < 0 ? network.length * 8 : Integer.parseInt(trimmed.substring(slash + 1));
+            if (prefixLength < 0 || prefixLength > network.length * 8) {
+                throw new IllegalArgumentException("신뢰하는 프록시 주소가 올바르지 않습니다: " + value);
+            }
+            return new IpRange(network, prefixLength);
+        }
+
+        boolean contains(InetAddress address) {
+            byte[] candidate = address.getAddress();
+            if (candidate.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixLength / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (candidate[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefixLength % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = (0xFF << (8 - remainingBits)) & 0xFF;
+            return (candidate[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
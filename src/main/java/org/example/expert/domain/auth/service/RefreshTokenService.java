@@ -0,0 +1,133 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.TokenRevocationList;
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급과 교체를 담당합니다.
+ * 액세스 토큰이 만료될 때마다 bcrypt 검증이 필요한 로그인을 다시 하지 않도록, 해시 인덱스 조회 한 번으로 새 토큰을 발급합니다.
+ * 토큰은 256비트 난수라 추측할 수 없으므로 bcrypt 대신 SHA-256 해시로 저장해도 안전합니다.
+ */
+@Slf4j(topic = "RefreshTokenService")
+@Service
+@Transactional(readOnly = true)
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationList tokenRevocationList;
+    private final long ttlMillis;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Counter rotatedCounter;
+    private final Counter reusedCounter;
+    private final Counter invalidCounter;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            TokenRevocationList tokenRevocationList,
+            @Value("${jwt.refresh-token.ttl:P14D}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.tokenRevocationList = tokenRevocationList;
+        this.ttlMillis = ttl.toMillis();
+        this.rotatedCounter = meterRegistry.counter("auth.refresh", "result", "rotated");
+        this.reusedCounter = meterRegistry.counter("auth.refresh", "result", "reused");
+        this.invalidCounter = meterRegistry.counter("auth.refresh", "result", "invalid");
+    }
+
+    /**
+     * 로그인/회원가입 시 새 family 의 리프레시 토큰을 발급하고 원본 토큰을 반환합니다.
+     */
+    @Transactional
+    public String issue(Long userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰을 사용 처리하고 같은 family 의 새 토큰을 발급합니다.
+     * 이미 사용된 토큰이면 재사용으로 보고 family 전체와 사용자의 액세스 토큰을 폐기합니다.
+     * 폐기 결과가 롤백되지 않도록 AuthException 으로는 롤백하지 않습니다.
+     */
+    @Transactional(noRollbackFor = AuthException.class)
+    public Rotation rotate(String rawToken) {
+        long now = System.currentTimeMillis();
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(rawToken)).orElse(null);
+        if (refreshToken == null || refreshToken.getExpiresAt() <= now) {
+            invalidCounter.increment();
+            throw new AuthException("유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        if (refreshTokenRepository.markUsed(refreshToken.getId(), now) == 0) {
+            reusedCounter.increment();
+            refreshTokenRepository.deleteByFamilyId(refreshToken.getFamilyId());
+            tokenRevocationList.revokeAll(refreshToken.getUserId());
+            log.warn("이미 사용된 리프레시 토큰이 다시 사용되었습니다. userId={}", refreshToken.getUserId());
+            throw new AuthException("이미 사용된 리프레시 토큰입니다. 다시 로그인해 주세요.");
+        }
+
+        rotatedCounter.increment();
+        return new Rotation(refreshToken.getUserId(), issue(refreshToken.getUserId(), refreshToken.getFamilyId()));
+    }
+
+    /**
+     * 사용자의 리프레시 토큰을 모두 폐기합니다.
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    /**
+     * 만료된 토큰을 지웁니다. 사용된 토큰은 재사용 감지를 위해 만료될 때까지 남겨 둡니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.prune-interval:PT1H}")
+    public void pruneExpired() {
+        int pruned = refreshTokenRepository.deleteExpired(System.currentTimeMillis());
+        if (pruned > 0) {
+            log.debug("만료된 리프레시 토큰 {} 개를 정리했습니다.", pruned);
+        }
+    }
+
+    private String issue(Long userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepository.save(new RefreshToken(hash(rawToken), userId, familyId, System.currentTimeMillis() + ttlMillis));
+        return rawToken;
+    }
+
+    static String hash(String rawToken) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param userId       토큰 주인
+     * @param refreshToken 새로 발급한 원본 리프레시 토큰
+     */
+    public record Rotation(Long userId, String refreshToken) {
+    }
+}
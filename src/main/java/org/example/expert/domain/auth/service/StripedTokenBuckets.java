@@ -0,0 +1,114 @@
+package org.example.expert.domain.auth.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 키별 토큰 버킷을 여러 개의 stripe 로 나눠 보관합니다.
+ * 키의 해시로 stripe 를 고르고 stripe 단위로만 잠그므로, 서로 다른 키의 요청은 대부분 경합하지 않습니다.
+ * 각 stripe 는 최근 사용 순서를 유지해 최대 개수를 넘으면 가장 오래 쓰이지 않은 버킷부터 제거하고,
+ * evictIdle 로 오래 쓰이지 않은 버킷을 정리합니다.
+ */
+final class StripedTokenBuckets {
+
+    private final Stripe[] stripes;
+    private final int capacity;
+    private final double tokensPerNano;
+    private final int maxKeysPerStripe;
+
+    StripedTokenBuckets(int stripeCount, int capacity, long refillPeriodNanos, int maxKeys) {
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = (double) capacity / refillPeriodNanos;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / stripeCount);
+    }
+
+    /**
+     * 토큰이 남아 있으면 하나를 사용하고 true 를 반환합니다.
+     */
+    boolean tryAcquire(String key, long nowNanos) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, nowNanos);
+                stripe.buckets.put(key, bucket);
+                if (stripe.buckets.size() > maxKeysPerStripe) {
+                    Iterator<Bucket> eldest = stripe.buckets.values().iterator();
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+            return bucket.tryAcquire(nowNanos, capacity, tokensPerNano);
+        }
+    }
+
+    /**
+     * idleNanos 이상 사용되지 않은 버킷을 제거하고 제거한 개수를 반환합니다.
+     * 제거된 키는 다음 요청에서 가득 찬 버킷으로 다시 시작하므로, 그동안 다 채워졌을 버킷만 지우면 동작이 달라지지 않습니다.
+     */
+    int evictIdle(long nowNanos, long idleNanos) {
+        int evicted = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                // 사용 순서대로 정렬되어 있으므로 최근에 쓰인 버킷을 만나면 멈춥니다.
+                Iterator<Bucket> iterator = stripe.buckets.values().iterator();
+                while (iterator.hasNext()) {
+                    if (nowNanos - iterator.next().lastRefillNanos < idleNanos) {
+                        break;
+                    }
+                    iterator.remove();
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.buckets.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeOf(String key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+
+    private static final class Stripe {
+        // accessOrder = true: get/put 할 때마다 가장 뒤로 옮겨 최근 사용 순서를 유지합니다.
+        private final Map<String, Bucket> buckets = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        // 마지막으로 사용된 시각이기도 합니다.
+        private long lastRefillNanos;
+
+        private Bucket(int capacity, long nowNanos) {
+            this.tokens = capacity;
+            this.lastRefillNanos = nowNanos;
+        }
+
+        private boolean tryAcquire(long nowNanos, int capacity, double tokensPerNano) {
+            tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * tokensPerNano);
+            lastRefillNanos = nowNanos;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
@@ -15,4 +15,8 @@ public class CommentResponse {
         this.contents = contents;
         this.user = user;
     }
+
+    public CommentResponse(Long id, String contents, Long userId, String userEmail) {
+        this(id, contents, new UserResponse(userId, userEmail));
+    }
 }
@@ -1,6 +1,9 @@
 package org.example.expert.domain.comment.repository;
 
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,6 +12,14 @@ import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u WHERE c.todo.id = :todoId")
+    List<CommentResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    /**
+     * 일정의 댓글을 id 순으로 한 페이지만 읽습니다. 개수 조회 없이 size + 1 개를 읽어 다음 페이지 여부만 판단합니다.
+     */
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u WHERE c.todo.id = :todoId ORDER BY c.id")
+    Slice<CommentResponse> findResponseSliceByTodoId(@Param("todoId") Long todoId, Pageable pageable);
 }
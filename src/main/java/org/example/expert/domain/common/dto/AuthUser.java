@@ -3,8 +3,12 @@ package org.example.expert.domain.common.dto;
 import lombok.Getter;
 import org.example.expert.domain.user.enums.UserRole;
 
+/**
+ * 인증된 사용자 정보입니다. 토큰을 처음 검증할 때 권한까지 해석해 한 번만 만들고,
+ * 토큰 캐시와 요청 속성(AuthenticatedPrincipal)에서 같은 인스턴스를 그대로 공유하므로 불변으로 유지합니다.
+ */
 @Getter
-public class AuthUser {
+public final class AuthUser {
 
     private final Long id;
     private final String email;
@@ -15,4 +19,8 @@ public class AuthUser {
         this.email = email;
         this.userRole = userRole;
     }
+
+    public boolean isAdmin() {
+        return userRole == UserRole.ADMIN;
+    }
 }
@@ -9,7 +9,7 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+@Table(name = "managers", uniqueConstraints = @UniqueConstraint(name = "uk_managers_todo_id_user_id", columnNames = {"todo_id", "user_id"}))
 public class Manager {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
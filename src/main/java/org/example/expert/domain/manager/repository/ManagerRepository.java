@@ -1,5 +1,6 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +9,10 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagerResponse(m.id, u.id, u.email) " +
+            "FROM Manager m JOIN m.user u WHERE m.todo.id = :todoId")
+    List<ManagerResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    boolean existsByTodoIdAndUserId(Long todoId, Long userId);
 }
@@ -17,7 +17,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -48,6 +47,11 @@ public class ManagerService {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
+        // (todo_id, user_id) 유니크 인덱스로도 막히지만, 500 대신 알아볼 수 있는 메시지로 거절합니다.
+        if (managerRepository.existsByTodoIdAndUserId(todoId, managerUser.getId())) {
+            throw new InvalidRequestException("이미 등록된 담당자입니다.");
+        }
+
         Manager newManagerUser = new Manager(managerUser, todo);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
 
@@ -58,20 +62,13 @@ public class ManagerService {
     }
 
     public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
+        List<ManagerResponse> managers = managerRepository.findResponsesByTodoId(todoId);
 
-        List<ManagerResponse> dtoList = new ArrayList<>();
-        for (Manager manager : managerList) {
-            User user = manager.getUser();
-            dtoList.add(new ManagerResponse(
-                    manager.getId(),
-                    new UserResponse(user.getId(), user.getEmail())
-            ));
+        // 담당자가 있으면 일정도 있으므로, 목록이 비었을 때만 일정이 있는지 확인합니다.
+        if (managers.isEmpty() && !todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
         }
-        return dtoList;
+        return managers;
     }
 
     @Transactional
@@ -5,8 +5,12 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
+import org.example.expert.domain.todo.service.TodoDetailService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoDetailService todoDetailService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -34,8 +39,33 @@ public class TodoController {
         return ResponseEntity.ok(todoService.getTodos(page, size));
     }
 
+    @GetMapping("/todos/slice")
+    public ResponseEntity<TodoSliceResponse> getTodoSlice(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodoSlice(page, size));
+    }
+
+    @GetMapping("/todos/cursor")
+    public ResponseEntity<TodoCursorResponse> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
+    }
+
     @GetMapping("/todos/{todoId}")
     public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
         return ResponseEntity.ok(todoService.getTodo(todoId));
     }
+
+    @GetMapping("/todos/{todoId}/detail")
+    public ResponseEntity<TodoDetailResponse> getTodoDetail(
+            @PathVariable long todoId,
+            @RequestParam(defaultValue = "1") int commentPage,
+            @RequestParam(defaultValue = "10") int commentSize
+    ) {
+        return ResponseEntity.ok(todoDetailService.getTodoDetail(todoId, commentPage, commentSize));
+    }
 }
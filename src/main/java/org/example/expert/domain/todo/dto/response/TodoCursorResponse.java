@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoCursorResponse {
+
+    private final List<TodoResponse> todos;
+    private final String nextCursor; // 마지막 페이지면 null
+
+    public TodoCursorResponse(List<TodoResponse> todos, String nextCursor) {
+        this.todos = todos;
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+}
@@ -25,4 +25,8 @@ public class TodoResponse {
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
     }
+
+    public TodoResponse(Long id, String title, String contents, String weather, Long userId, String userEmail, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, new UserResponse(userId, userEmail), createdAt, modifiedAt);
+    }
 }
@@ -14,7 +14,7 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = @Index(name = "idx_todos_modified_at_id", columnList = "modified_at DESC, id DESC"))
 public class Todo extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
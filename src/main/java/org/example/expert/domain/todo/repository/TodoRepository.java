@@ -1,23 +1,56 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+/**
+ * 조회 API 는 응답에 필요한 컬럼만 골라 TodoResponse 로 바로 만듭니다.
+ * 엔티티를 만들지 않으므로 영속성 컨텍스트에 올라가지 않고, 비밀번호 해시 같은 작성자의 나머지 컬럼도 읽지 않습니다.
+ */
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    String TODO_RESPONSE = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u ";
 
-    @Query("SELECT t FROM Todo t " +
-            "LEFT JOIN FETCH t.user " +
-            "WHERE t.id = :todoId")
-    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
+    @Query(value = TODO_RESPONSE + "ORDER BY t.modifiedAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoResponse> findAllByOrderByModifiedAtDesc(Pageable pageable);
+
+    /**
+     * 개수 조회 없이 size + 1 개를 읽어 다음 페이지 여부만 판단합니다.
+     */
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    Slice<TodoResponse> findSliceByOrderByModifiedAtDesc(Pageable pageable);
+
+    @Query(TODO_RESPONSE + "WHERE t.id = :todoId")
+    Optional<TodoResponse> findResponseById(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    /**
+     * 커서 페이지네이션의 첫 페이지입니다. 같은 modifiedAt 안에서는 id 로 순서를 고정합니다.
+     */
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findFirstPageByCursor(Pageable pageable);
+
+    /**
+     * (modifiedAt, id) 가 커서보다 뒤인 일정을 찾습니다. OFFSET 없이 (modified_at, id) 인덱스에서 바로 이어 읽으므로
+     * 몇 번째 페이지든 비용이 같습니다. 앞의 modifiedAt <= 조건은 인덱스 범위 탐색을 위한 것입니다.
+     */
+    @Query(TODO_RESPONSE +
+            "WHERE t.modifiedAt <= :modifiedAt " +
+            "AND (t.modifiedAt < :modifiedAt OR t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findNextPageByCursor(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
 }
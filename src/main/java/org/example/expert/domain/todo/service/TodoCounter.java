@@ -0,0 +1,47 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일정 전체 개수의 근사값입니다.
+ * 목록을 조회할 때마다 COUNT(*) 를 실행하지 않도록 주기적으로 한 번만 세어 두고, 그 사이에 저장된 일정은 더해 둡니다.
+ * 다른 인스턴스에서 저장한 일정은 다음 갱신 때 반영되므로 최대 refresh-interval 만큼 차이가 날 수 있습니다.
+ */
+@Slf4j(topic = "TodoCounter")
+@Component
+public class TodoCounter {
+
+    private final TodoRepository todoRepository;
+    private final AtomicLong approximateTotal = new AtomicLong();
+
+    public TodoCounter(TodoRepository todoRepository, MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        Gauge.builder("todos.approximate.total", approximateTotal, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    public long approximateTotal() {
+        return approximateTotal.get();
+    }
+
+    public void increment() {
+        approximateTotal.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${todo.count.refresh-interval:PT30S}")
+    public void refresh() {
+        try {
+            approximateTotal.set(todoRepository.count());
+        } catch (RuntimeException e) {
+            // 갱신에 실패하면 이전 값을 그대로 사용합니다.
+            log.warn("일정 개수를 갱신하지 못했습니다. cause={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션의 위치입니다. 마지막으로 내려준 일정의 (modifiedAt, id) 를 담습니다.
+ * 클라이언트에는 내용을 해석할 필요가 없도록 Base64URL 로 인코딩한 문자열로만 내려줍니다.
+ * <pre>
+ * long epochSecond (UTC 기준으로 환산한 modifiedAt)
+ * int  nano
+ * long id
+ * </pre>
+ */
+record TodoCursor(LocalDateTime modifiedAt, long id) {
+
+    private static final int LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH)
+                .putLong(modifiedAt.toEpochSecond(ZoneOffset.UTC))
+                .putInt(modifiedAt.getNano())
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    static TodoCursor decode(String cursor) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != LENGTH) {
+                throw new IllegalArgumentException("length " + bytes.length);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            LocalDateTime modifiedAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            return new TodoCursor(modifiedAt, buffer.getLong());
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+    }
+}
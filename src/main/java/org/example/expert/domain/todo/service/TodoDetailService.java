@@ -0,0 +1,61 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 일정 화면에 필요한 일정, 담당자, 댓글 한 페이지를 한 번에 조회합니다.
+ * 두 컬렉션을 한 쿼리로 fetch join 하면 담당자 수 x 댓글 수만큼 행이 불어나므로, 대상별로 나눠 조회합니다.
+ * 일정, 담당자, 댓글을 각각 한 번씩 읽어 SQL 은 항상 3개이고, 일정이 없으면 첫 조회에서 끝납니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TodoDetailService {
+
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
+
+    private final TodoRepository todoRepository;
+    private final ManagerRepository managerRepository;
+    private final CommentRepository commentRepository;
+
+    public TodoDetailResponse getTodoDetail(long todoId, int commentPage, int commentSize) {
+        if (commentPage < 1) {
+            throw new InvalidRequestException("commentPage 는 1 이상이어야 합니다.");
+        }
+        if (commentSize < 1 || commentSize > MAX_COMMENT_PAGE_SIZE) {
+            throw new InvalidRequestException("commentSize 는 1 이상 " + MAX_COMMENT_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        TodoResponse todo = todoRepository.findResponseById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        List<ManagerResponse> managers = managerRepository.findResponsesByTodoId(todoId);
+
+        // 전체 댓글 수는 세지 않고 다음 페이지가 있는지만 알려줍니다.
+        Slice<CommentResponse> comments = commentRepository.findResponseSliceByTodoId(
+                todoId, PageRequest.of(commentPage - 1, commentSize));
+
+        return new TodoDetailResponse(
+                todo,
+                managers,
+                comments.getContent(),
+                commentPage,
+                commentSize,
+                comments.hasNext()
+        );
+    }
+}
@@ -5,8 +5,10 @@ import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
@@ -14,18 +16,27 @@ import org.example.expert.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TodoCounter todoCounter;
 
-    @Transactional
+    // 날씨 조회는 외부 API 호출이 될 수 있으므로 트랜잭션 밖에서 먼저 끝내고,
+    // DB 커넥션은 todoRepository.save 의 트랜잭션에서 insert 하는 동안에만 사용합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
@@ -38,6 +49,7 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoCounter.increment();
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -51,33 +63,55 @@ public class TodoService {
     public Page<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        return todoRepository.findAllByOrderByModifiedAtDesc(pageable);
     }
 
-    public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    /**
+     * 전체 개수를 세지 않고 일정을 조회합니다. 전체 개수가 필요한 클라이언트에는 주기적으로 갱신한 근사값을 함께 내려줍니다.
+     */
+    public TodoSliceResponse getTodoSlice(int page, int size) {
+        Pageable pageable = PageRequest.of(page - 1, size);
 
-        User user = todo.getUser();
+        Slice<TodoResponse> todos = todoRepository.findSliceByOrderByModifiedAtDesc(pageable);
 
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
+        return new TodoSliceResponse(
+                todos.getContent(),
+                page,
+                size,
+                todos.hasNext(),
+                todoCounter.approximateTotal()
         );
     }
+
+    /**
+     * 커서 기반으로 일정을 조회합니다. OFFSET 과 전체 개수 조회 없이 커서 다음부터 size 개만 읽습니다.
+     * 다음 페이지가 있는지는 size + 1 개를 읽어 판단합니다.
+     */
+    public TodoCursorResponse getTodosByCursor(String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<TodoResponse> todos;
+        if (cursor == null || cursor.isEmpty()) {
+            todos = todoRepository.findFirstPageByCursor(limit);
+        } else {
+            TodoCursor position = TodoCursor.decode(cursor);
+            todos = todoRepository.findNextPageByCursor(position.modifiedAt(), position.id(), limit);
+        }
+
+        String nextCursor = null;
+        if (todos.size() > size) {
+            todos = todos.subList(0, size);
+            TodoResponse last = todos.get(size - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+        return new TodoCursorResponse(todos, nextCursor);
+    }
+
+    public TodoResponse getTodo(long todoId) {
+        return todoRepository.findResponseById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    }
 }
@@ -2,15 +2,33 @@ package org.example.expert.domain.user.enums;
 
 import org.example.expert.domain.common.exception.InvalidRequestException;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 public enum UserRole {
     ADMIN, USER;
 
+    // values() 는 호출할 때마다 배열을 복사하므로 이름별 조회표를 한 번만 만들어 둡니다.
+    private static final UserRole[] VALUES = values();
+    private static final Map<String, UserRole> BY_NAME = new HashMap<>();
+
+    static {
+        for (UserRole userRole : VALUES) {
+            BY_NAME.put(userRole.name(), userRole);
+        }
+    }
+
     public static UserRole of(String role) {
-        return Arrays.stream(UserRole.values())
-                .filter(r -> r.name().equalsIgnoreCase(role))
-                .findFirst()
-                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 UserRole"));
+        // 대부분 정확한 이름으로 들어오므로 해시 조회로 먼저 찾고, 대소문자가 다를 때만 비교합니다.
+        UserRole userRole = role == null ? null : BY_NAME.get(role);
+        if (userRole != null) {
+            return userRole;
+        }
+        for (UserRole candidate : VALUES) {
+            if (candidate.name().equalsIgnoreCase(role)) {
+                return candidate;
+            }
+        }
+        throw new InvalidRequestException("유효하지 않은 UserRole");
     }
 }
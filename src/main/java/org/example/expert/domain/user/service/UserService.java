@@ -2,6 +2,8 @@ package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.TokenRevocationList;
+import org.example.expert.domain.auth.service.RefreshTokenService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
@@ -17,6 +19,8 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationList tokenRevocationList;
+    private final RefreshTokenService refreshTokenService;
 
     public UserResponse getUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
@@ -39,6 +43,18 @@ public class UserService {
         }
 
         user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        // 비밀번호를 바꾸기 전에 발급된 토큰은 리프레시 토큰까지 모두 폐기합니다.
+        tokenRevocationList.revokeAll(userId);
+        refreshTokenService.revokeAll(userId);
+    }
+
+    /**
+     * 로그인 중 다시 해싱한 비밀번호를 저장합니다.
+     * 해싱하는 사이 비밀번호가 바뀌었으면 덮어쓰지 않고 false 를 반환합니다.
+     */
+    @Transactional
+    public boolean updatePasswordHash(long userId, String expectedOldHash, String newHash) {
+        return userRepository.updatePassword(userId, expectedOldHash, newHash) == 1;
     }
 
     private void validateNewPassword(String newPassword) {
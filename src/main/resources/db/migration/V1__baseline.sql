@@ -0,0 +1,50 @@
+-- ddl-auto: update 로 만들어지던 기존 스키마입니다.
+-- 이미 테이블이 있는 DB 는 spring.flyway.baseline-on-migrate 로 이 버전을 건너뜁니다.
+
+CREATE TABLE users
+(
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    email       VARCHAR(255),
+    password    VARCHAR(255),
+    user_role   ENUM ('ADMIN', 'USER'),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE todos
+(
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    title       VARCHAR(255),
+    contents    VARCHAR(255),
+    weather     VARCHAR(255),
+    user_id     BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_todos_user_id FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE comments
+(
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    contents    VARCHAR(255),
+    user_id     BIGINT NOT NULL,
+    todo_id     BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_user_id FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_comments_todo_id FOREIGN KEY (todo_id) REFERENCES todos (id)
+);
+
+CREATE TABLE managers
+(
+    id      BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    todo_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_managers_user_id FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_managers_todo_id FOREIGN KEY (todo_id) REFERENCES todos (id)
+);
@@ -0,0 +1,26 @@
+-- 토큰 폐기 목록과 리프레시 토큰 테이블입니다.
+-- ddl-auto: update 로 이미 만들어졌을 수 있으므로 없을 때만 만듭니다.
+
+CREATE TABLE IF NOT EXISTS token_revocations
+(
+    user_id        BIGINT NOT NULL,
+    revoked_before BIGINT NOT NULL,
+    expires_at     BIGINT NOT NULL,
+    PRIMARY KEY (user_id),
+    INDEX idx_token_revocations_expires_at (expires_at)
+);
+
+CREATE TABLE IF NOT EXISTS refresh_tokens
+(
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    token_hash VARCHAR(43) NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    family_id  VARCHAR(36) NOT NULL,
+    expires_at BIGINT      NOT NULL,
+    used_at    BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash),
+    INDEX idx_refresh_tokens_user_id (user_id),
+    INDEX idx_refresh_tokens_family_id (family_id),
+    INDEX idx_refresh_tokens_expires_at (expires_at)
+);
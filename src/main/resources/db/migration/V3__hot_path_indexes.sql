@@ -0,0 +1,15 @@
+-- 자주 실행되는 조회에 맞춘 인덱스입니다.
+
+-- 일정 목록(ORDER BY modified_at DESC, id DESC) 인덱스는 이미 있을 수 있어 V4 에서 확인하고 만듭니다.
+
+-- 일정별 댓글(WHERE todo_id = ?)은 외래 키 인덱스 fk_comments_todo_id 를 그대로 사용합니다.
+-- InnoDB 보조 인덱스에는 기본 키가 포함되므로 (todo_id, id) 인덱스를 따로 만들 필요가 없습니다.
+
+-- 같은 담당자가 중복 등록되어 있으면 가장 먼저 등록된 것만 남깁니다.
+DELETE FROM managers
+WHERE id NOT IN (SELECT keep_id
+                 FROM (SELECT MIN(id) AS keep_id FROM managers GROUP BY todo_id, user_id) AS keep);
+
+-- 일정별 담당자: WHERE todo_id = ?, 중복 등록 방지
+-- managers 의 모든 컬럼(todo_id, user_id, id)을 담으므로 테이블을 읽지 않고 인덱스만으로 조회합니다.
+CREATE UNIQUE INDEX uk_managers_todo_id_user_id ON managers (todo_id, user_id);
@@ -0,0 +1,177 @@
+package org.example.expert;
+
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.flywaydb.core.Flyway;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Flyway 마이그레이션으로 만든 스키마가 엔티티와 일치하고(ddl-auto: validate),
+ * 리포지토리가 실제로 실행하는 조회가 의도한 인덱스를 사용하는지 실행 계획으로 확인합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.example.expert.SchemaMigrationTest$CapturedSql"
+})
+class SchemaMigrationTest {
+
+    private static final int SEED_SIZE = 1000;
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 빈 테이블은 전체 스캔 비용이 가장 낮으므로, 통계가 쌓일 만큼 데이터를 넣고 실행 계획을 봅니다.
+        // 작성자가 한 명뿐이면 users 를 먼저 읽는 조인이 싸 보이므로 일정마다 작성자를 따로 둡니다.
+        jdbcTemplate.batchUpdate("INSERT INTO users (email, password, user_role) VALUES (?, 'password', 'USER')",
+                IntStream.rangeClosed(1, SEED_SIZE).mapToObj(i -> new Object[]{"seed" + i + "@a.com"}).toList());
+        jdbcTemplate.batchUpdate("INSERT INTO todos (title, contents, weather, user_id, created_at, modified_at) "
+                        + "SELECT 'title', 'contents', 'Sunny', id, ?, ? FROM users WHERE email = ?",
+                IntStream.rangeClosed(1, SEED_SIZE).mapToObj(i -> {
+                    LocalDateTime modifiedAt = BASE_TIME.plusMinutes(i);
+                    return new Object[]{modifiedAt, modifiedAt, "seed" + i + "@a.com"};
+                }).toList());
+    }
+
+    @Test
+    void 일정_목록은_수정일_인덱스_순서대로_읽는다() {
+        String page = executedSelect(() -> todoRepository.findAllByOrderByModifiedAtDesc(PageRequest.of(0, 10)));
+        String slice = executedSelect(() -> todoRepository.findSliceByOrderByModifiedAtDesc(PageRequest.of(0, 10)));
+        String firstPage = executedSelect(() -> todoRepository.findFirstPageByCursor(PageRequest.of(0, 11)));
+
+        assertUsesIndex(page, "idx_todos_modified_at_id", 10);
+        assertUsesIndex(slice, "idx_todos_modified_at_id", 10);
+        assertUsesIndex(firstPage, "idx_todos_modified_at_id", 11);
+    }
+
+    @Test
+    void 일정_커서_조회는_수정일_인덱스_범위를_탐색한다() {
+        LocalDateTime modifiedAt = BASE_TIME.plusMinutes(500);
+        String nextPage = executedSelect(() -> todoRepository.findNextPageByCursor(modifiedAt, 500L, PageRequest.of(0, 11)));
+
+        assertUsesIndex(nextPage, "idx_todos_modified_at_id", modifiedAt, modifiedAt, 500L, 11);
+    }
+
+    @Test
+    void 일정별_댓글은_외래_키_인덱스로_찾는다() {
+        String list = executedSelect(() -> commentRepository.findResponsesByTodoId(1L));
+        String slice = executedSelect(() -> commentRepository.findResponseSliceByTodoId(1L, PageRequest.of(0, 10)));
+
+        assertUsesIndex(list, "fk_comments_todo_id", 1L);
+        assertUsesIndex(slice, "fk_comments_todo_id", 1L, 10);
+    }
+
+    @Test
+    void 일정별_담당자는_유니크_인덱스로_찾는다() {
+        String list = executedSelect(() -> managerRepository.findResponsesByTodoId(1L));
+        String exists = executedSelect(() -> managerRepository.existsByTodoIdAndUserId(1L, 2L));
+
+        assertUsesIndex(list, "uk_managers_todo_id_user_id", 1L);
+        assertUsesIndex(exists, "uk_managers_todo_id_user_id", 1L, 2L, 1);
+    }
+
+    @Test
+    void 같은_담당자를_두_번_저장할_수_없다() {
+        // given
+        User owner = entityManager.persist(new User("owner@a.com", "password", UserRole.USER));
+        User managerUser = entityManager.persist(new User("manager@a.com", "password", UserRole.USER));
+        Todo todo = entityManager.persist(new Todo("title", "contents", "Sunny", owner));
+        entityManager.persist(new Manager(managerUser, todo));
+        entityManager.flush();
+
+        // when & then
+        assertTrue(managerRepository.existsByTodoIdAndUserId(todo.getId(), managerUser.getId()));
+        assertThrows(DataIntegrityViolationException.class,
+                () -> managerRepository.saveAndFlush(new Manager(managerUser, todo)));
+    }
+
+    @Test
+    void ddl_auto_로_만든_일정_인덱스가_있어도_마이그레이션이_성공한다() {
+        // given: ddl-auto=update 로 운영하던 DB 에는 V3 이전에 같은 이름의 인덱스가 이미 있습니다.
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration-upgrade;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).target("3").load().migrate();
+        JdbcTemplate upgradeJdbc = new JdbcTemplate(dataSource);
+        upgradeJdbc.execute("CREATE INDEX idx_todos_modified_at_id ON todos (modified_at, id)");
+
+        // when
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        // then
+        List<String> orderings = upgradeJdbc.queryForList("SELECT ordering_specification FROM information_schema.index_columns "
+                + "WHERE index_name = 'idx_todos_modified_at_id' ORDER BY ordinal_position", String.class);
+        assertEquals(List.of("DESC", "DESC"), orderings);
+    }
+
+    private String executedSelect(Runnable query) {
+        CapturedSql.STATEMENTS.clear();
+        query.run();
+        assertFalse(CapturedSql.STATEMENTS.isEmpty(), "실행된 SQL 이 없습니다");
+        // 페이지 조회는 목록 뒤에 COUNT 를 한 번 더 실행하므로 첫 번째 SQL 을 봅니다.
+        return CapturedSql.STATEMENTS.get(0);
+    }
+
+    private void assertUsesIndex(String sql, String indexName, Object... params) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, params);
+        assertNotNull(plan);
+        assertTrue(plan.toLowerCase(Locale.ROOT).contains(indexName), () -> "실행 계획에 " + indexName + " 이 없습니다:\n" + plan);
+    }
+
+    /**
+     * Hibernate 가 실행하는 SQL 을 모읍니다.
+     */
+    public static class CapturedSql implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.expert.aop;
+
+import org.example.expert.annotation.Admin;
+import org.example.expert.config.AuthenticatedPrincipal;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AdminAccessAopTest {
+
+    @Mock
+    private AdminAuditLog adminAuditLog;
+
+    private AdminTarget proxy;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new AdminTarget());
+        factory.addAspect(new AdminAccessAop(adminAuditLog));
+        proxy = factory.getProxy();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/admin/comments/1");
+        AuthenticatedPrincipal.set(request, new AuthUser(1L, "admin@a.com", UserRole.ADMIN));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void 관리자_API_호출_결과를_감사_로그에_남긴다() {
+        // when
+        String result = proxy.succeed();
+
+        // then
+        assertEquals("ok", result);
+        AdminAuditEvent event = capturedEvent();
+        assertEquals(1L, event.userId());
+        assertEquals("DELETE", event.httpMethod());
+        assertEquals("/admin/comments/1", event.url());
+        assertEquals(AdminAuditEvent.SUCCESS, event.outcome());
+        assertTrue(event.latencyMicros() >= 0);
+    }
+
+    @Test
+    void 예외가_발생하면_예외_이름을_결과로_남기고_그대로_던진다() {
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> proxy.fail());
+        assertEquals("InvalidRequestException", capturedEvent().outcome());
+    }
+
+    private AdminAuditEvent capturedEvent() {
+        ArgumentCaptor<AdminAuditEvent> captor = ArgumentCaptor.forClass(AdminAuditEvent.class);
+        verify(adminAuditLog).record(captor.capture());
+        return captor.getValue();
+    }
+
+    static class AdminTarget {
+
+        @Admin
+        public String succeed() {
+            return "ok";
+        }
+
+        @Admin
+        public String fail() {
+            throw new InvalidRequestException("삭제할 수 없습니다.");
+        }
+    }
+}
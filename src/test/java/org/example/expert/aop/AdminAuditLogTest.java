@@ -0,0 +1,110 @@
+package org.example.expert.aop;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminAuditLogTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 이벤트를_JSON_한_줄씩_파일_끝에_이어_쓴다() throws Exception {
+        // given
+        Path path = tempDir.resolve("admin-audit.log");
+        Files.writeString(path, "{\"previous\":true}\n");
+        AdminAuditLog auditLog = new AdminAuditLog(properties(path, 16, AdminAuditProperties.OverflowPolicy.DROP), meterRegistry);
+        auditLog.start();
+
+        // when
+        auditLog.record(event(1L, "SUCCESS"));
+        auditLog.record(event(null, "AccessDeniedException"));
+        auditLog.stop();
+
+        // then
+        List<String> lines = Files.readAllLines(path);
+        assertEquals(3, lines.size());
+        assertEquals("{\"previous\":true}", lines.get(0));
+        assertEquals("{\"timestamp\":\"2024-09-12T03:00:00Z\",\"userId\":1,\"method\":\"DELETE\","
+                + "\"url\":\"/admin/comments/1\",\"outcome\":\"SUCCESS\",\"latencyMicros\":1500}", lines.get(1));
+        assertTrue(lines.get(2).contains("\"userId\":null"));
+        assertTrue(lines.get(2).contains("\"outcome\":\"AccessDeniedException\""));
+        assertEquals(2.0, meterRegistry.get("audit.admin.written").tag("result", "success").counter().count());
+    }
+
+    @Test
+    void DROP_정책은_버퍼가_가득_차면_새_이벤트를_버린다() {
+        // given
+        AdminAuditLog auditLog = new AdminAuditLog(
+                properties(tempDir.resolve("admin-audit.log"), 2, AdminAuditProperties.OverflowPolicy.DROP), meterRegistry);
+
+        // when
+        boolean first = auditLog.record(event(1L, "SUCCESS"));
+        boolean second = auditLog.record(event(1L, "SUCCESS"));
+        boolean third = auditLog.record(event(1L, "SUCCESS"));
+
+        // then
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertEquals(1.0, meterRegistry.get("audit.admin.events").tag("result", "dropped").counter().count());
+        assertEquals(2.0, meterRegistry.get("audit.admin.queue.size").gauge().value());
+    }
+
+    @Test
+    void BLOCK_정책은_기록_스레드가_자리를_비우면_이벤트를_넣는다() throws Exception {
+        // given
+        Path path = tempDir.resolve("admin-audit.log");
+        AdminAuditLog auditLog = new AdminAuditLog(properties(path, 1, AdminAuditProperties.OverflowPolicy.BLOCK), meterRegistry);
+        auditLog.start();
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            assertTrue(auditLog.record(event((long) i, "SUCCESS")));
+        }
+        auditLog.stop();
+
+        // then
+        assertEquals(20, Files.readAllLines(path).size());
+        assertEquals(0.0, meterRegistry.get("audit.admin.events").tag("result", "dropped").counter().count());
+    }
+
+    @Test
+    void 기록_경로를_사용할_수_없으면_실패_건수를_센다() throws IOException, InterruptedException {
+        // given
+        Path blocker = Files.createFile(tempDir.resolve("not-a-directory"));
+        AdminAuditLog auditLog = new AdminAuditLog(
+                properties(blocker.resolve("admin-audit.log"), 16, AdminAuditProperties.OverflowPolicy.DROP), meterRegistry);
+        auditLog.start();
+
+        // when
+        auditLog.record(event(1L, "SUCCESS"));
+        auditLog.stop();
+
+        // then
+        assertEquals(1.0, meterRegistry.get("audit.admin.written").tag("result", "failure").counter().count());
+    }
+
+    private AdminAuditProperties properties(Path path, int bufferSize, AdminAuditProperties.OverflowPolicy overflowPolicy) {
+        return new AdminAuditProperties(path.toString(), bufferSize, 256, Duration.ofMillis(10),
+                overflowPolicy, Duration.ofSeconds(1));
+    }
+
+    private AdminAuditEvent event(Long userId, String outcome) {
+        return new AdminAuditEvent(userId, Instant.parse("2024-09-12T03:00:00Z"), "DELETE", "/admin/comments/1",
+                outcome, 1500);
+    }
+}
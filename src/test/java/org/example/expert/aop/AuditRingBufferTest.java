@@ -0,0 +1,79 @@
+package org.example.expert.aop;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditRingBufferTest {
+
+    @Test
+    void 크기는_2의_거듭제곱으로_올림한다() {
+        assertEquals(8, new AuditRingBuffer<>(5).capacity());
+        assertEquals(8, new AuditRingBuffer<>(8).capacity());
+        assertEquals(2, new AuditRingBuffer<>(1).capacity());
+    }
+
+    @Test
+    void 가득_차면_넣지_않고_넣은_순서대로_꺼낸다() {
+        // given
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(2);
+
+        // when
+        boolean first = buffer.offer(1);
+        boolean second = buffer.offer(2);
+        boolean third = buffer.offer(3);
+
+        // then
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertEquals(2, buffer.size());
+        assertEquals(1, buffer.poll());
+        assertTrue(buffer.offer(3));
+        assertEquals(2, buffer.poll());
+        assertEquals(3, buffer.poll());
+        assertNull(buffer.poll());
+    }
+
+    @Test
+    void 여러_스레드가_동시에_넣어도_유실되지_않는다() throws InterruptedException {
+        // given
+        int producers = 4;
+        int perProducer = 10_000;
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        Set<Integer> received = new HashSet<>();
+        while (received.size() < producers * perProducer) {
+            Integer value = buffer.poll();
+            if (value != null) {
+                assertTrue(received.add(value));
+            }
+        }
+
+        // then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertNull(buffer.poll());
+        executor.shutdown();
+    }
+}
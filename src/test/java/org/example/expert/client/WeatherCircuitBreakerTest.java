@@ -0,0 +1,169 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherCircuitBreakerTest {
+
+    private static final Instant NOW = Instant.parse("2024-09-12T03:00:00Z");
+
+    private MeterRegistry meterRegistry;
+    private WeatherCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new WeatherCircuitBreaker(new WeatherCircuitBreakerProperties(
+                10, 4, 50, Duration.ofSeconds(30), 1, 1, Duration.ZERO), meterRegistry);
+        setNow(NOW);
+    }
+
+    @Test
+    void 실패율이_기준을_넘으면_서킷이_열린다() {
+        // given
+        circuitBreaker.execute(() -> "Sunny");
+        circuitBreaker.execute(() -> "Sunny");
+        failCall();
+
+        // when
+        failCall();
+
+        // then
+        assertEquals(WeatherCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(1.0, meterRegistry.get("weather.circuit.state").gauge().value());
+        assertEquals(1.0, meterRegistry.get("weather.circuit.transitions")
+                .tag("from", "CLOSED").tag("to", "OPEN").counter().count());
+    }
+
+    @Test
+    void 최소_호출_수를_채우기_전에는_서킷이_열리지_않는다() {
+        // when
+        failCall();
+        failCall();
+        failCall();
+
+        // then
+        assertEquals(WeatherCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void 서킷이_열려_있으면_호출하지_않고_실패한다() {
+        // given
+        openCircuit();
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        ServerException exception = assertThrows(ServerException.class,
+                () -> circuitBreaker.execute(calls::incrementAndGet));
+
+        // then
+        assertEquals("날씨 API 서킷이 열려 있어 호출하지 않습니다.", exception.getMessage());
+        assertEquals(0, calls.get());
+        assertEquals(1.0, meterRegistry.get("weather.circuit.rejected").tag("reason", "open").counter().count());
+    }
+
+    @Test
+    void 열린_시간이_지나고_시험_호출이_성공하면_서킷이_닫힌다() {
+        // given
+        openCircuit();
+        setNow(NOW.plusSeconds(30));
+
+        // when
+        String weather = circuitBreaker.execute(() -> "Sunny");
+
+        // then
+        assertEquals("Sunny", weather);
+        assertEquals(WeatherCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(1.0, meterRegistry.get("weather.circuit.transitions")
+                .tag("from", "OPEN").tag("to", "HALF_OPEN").counter().count());
+        assertEquals(1.0, meterRegistry.get("weather.circuit.transitions")
+                .tag("from", "HALF_OPEN").tag("to", "CLOSED").counter().count());
+    }
+
+    @Test
+    void 시험_호출이_실패하면_서킷이_다시_열린다() {
+        // given
+        openCircuit();
+        setNow(NOW.plusSeconds(30));
+
+        // when
+        failCall();
+
+        // then
+        assertEquals(WeatherCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(ServerException.class, () -> circuitBreaker.execute(() -> "Sunny"));
+        assertEquals(1.0, meterRegistry.get("weather.circuit.transitions")
+                .tag("from", "HALF_OPEN").tag("to", "OPEN").counter().count());
+    }
+
+    @Test
+    void 동시_호출_수를_넘으면_벌크헤드가_거절한다() throws Exception {
+        // given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> circuitBreaker.execute(() -> {
+            entered.countDown();
+            await(release);
+            return "Sunny";
+        }));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        try {
+            // when
+            ServerException exception = assertThrows(ServerException.class,
+                    () -> circuitBreaker.execute(() -> "Sunny"));
+
+            // then
+            assertEquals("날씨 API 동시 호출 수를 초과했습니다.", exception.getMessage());
+            assertEquals(1.0, meterRegistry.get("weather.circuit.rejected")
+                    .tag("reason", "bulkhead").counter().count());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals("Sunny", circuitBreaker.execute(() -> "Sunny"));
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            failCall();
+        }
+        assertEquals(WeatherCircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    private void failCall() {
+        assertThrows(IllegalStateException.class, () -> circuitBreaker.execute(() -> {
+            throw new IllegalStateException("timeout");
+        }));
+    }
+
+    private void setNow(Instant now) {
+        ReflectionTestUtils.setField(circuitBreaker, "clock", Clock.fixed(now, ZoneId.of("Asia/Seoul")));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WeatherClientTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @TempDir
+    private Path tempDir;
+
+    private MeterRegistry meterRegistry;
+    private WeatherSnapshotStore snapshotStore = new WeatherSnapshotStore("");
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        weatherClient = createWeatherClient("", false);
+        setToday(LocalDate.of(2024, 9, 12));
+    }
+
+    @Test
+    void 같은_날짜의_날씨는_한번만_조회한다() {
+        // given
+        givenWeathers();
+
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", first);
+        assertEquals("Sunny", second);
+        verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    void 날짜가_바뀌면_날씨를_다시_조회한다() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willReturn(ResponseEntity.ok(new WeatherDto[]{new WeatherDto("09-12", "Sunny")}))
+                .willReturn(ResponseEntity.ok(weathers()));
+        weatherClient.getTodayWeather();
+
+        // when
+        setToday(LocalDate.of(2024, 9, 13));
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Rainy", weather);
+        verify(restTemplate, times(2)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    void 동시에_요청해도_외부_API는_한번만_호출한다() throws Exception {
+        // given
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class))).willAnswer(invocation -> {
+            fetchStarted.countDown();
+            releaseFetch.await(5, TimeUnit.SECONDS);
+            return ResponseEntity.ok(weathers());
+        });
+
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<String>> results = new ArrayList<>();
+
+        // when
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executor.submit(weatherClient::getTodayWeather));
+            }
+            assertTrue(fetchStarted.await(5, TimeUnit.SECONDS));
+            releaseFetch.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertEquals("Sunny", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    void 조회에_실패하면_캐싱하지_않고_다시_조회한다() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willReturn(ResponseEntity.ok(new WeatherDto[0]))
+                .willReturn(ResponseEntity.ok(weathers()));
+
+        // when
+        ServerException exception = assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("날씨 데이터가 없습니다.", exception.getMessage());
+        assertEquals("Sunny", weather);
+    }
+
+    @Test
+    void 백그라운드_갱신된_스냅샷으로_응답한다() {
+        // given
+        givenWeathers();
+        setNow(LocalDateTime.of(2024, 9, 12, 23, 0));
+        weatherClient.refreshSnapshot();
+
+        // when
+        setNow(LocalDateTime.of(2024, 9, 13, 1, 0));
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Rainy", weather);
+        verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+        assertEquals(1.0, meterRegistry.get("weather.refresh").tag("result", "success").counter().count());
+    }
+
+    @Test
+    void 갱신에_실패해도_마지막_스냅샷을_계속_사용한다() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willReturn(ResponseEntity.ok(weathers()))
+                .willThrow(new ResourceAccessException("timeout"));
+        weatherClient.refreshSnapshot();
+
+        // when
+        weatherClient.refreshSnapshot();
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", weather);
+        assertEquals(1.0, meterRegistry.get("weather.refresh").tag("result", "failure").counter().count());
+        assertEquals(0.0, meterRegistry.get("weather.snapshot.age").gauge().value());
+    }
+
+    @Test
+    void 허용_시간이_지난_스냅샷은_사용하지_않고_다시_조회한다() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willReturn(ResponseEntity.ok(weathers()))
+                .willReturn(ResponseEntity.ok(new WeatherDto[]{new WeatherDto("09-13", "Cloudy")}));
+        setNow(LocalDateTime.of(2024, 9, 12, 23, 0));
+        weatherClient.refreshSnapshot();
+
+        // when
+        setNow(LocalDateTime.of(2024, 9, 13, 6, 1));
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Cloudy", weather);
+        verify(restTemplate, times(2)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    void 외부_API를_사용할_수_없으면_기본값으로_응답한다() {
+        // given
+        weatherClient = createWeatherClient("unknown", true);
+        setToday(LocalDate.of(2024, 9, 12));
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willThrow(new ResourceAccessException("timeout"));
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("unknown", weather);
+        assertEquals(1.0, meterRegistry.get("weather.fallback").counter().count());
+    }
+
+    @Test
+    void 외부_API를_사용할_수_없으면_허용_시간이_지난_스냅샷이라도_사용한다() {
+        // given
+        weatherClient = createWeatherClient("unknown", true);
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willReturn(ResponseEntity.ok(weathers()))
+                .willThrow(new ResourceAccessException("timeout"));
+        setNow(LocalDateTime.of(2024, 9, 12, 1, 0));
+        weatherClient.refreshSnapshot();
+
+        // when
+        setNow(LocalDateTime.of(2024, 9, 12, 23, 0));
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", weather);
+    }
+
+    @Test
+    void 서킷이_열리면_외부_API를_호출하지_않는다() {
+        // given
+        weatherClient = createWeatherClient("unknown", false);
+        setToday(LocalDate.of(2024, 9, 12));
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willThrow(new ResourceAccessException("timeout"));
+        for (int i = 0; i < 5; i++) {
+            weatherClient.getTodayWeather();
+        }
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("unknown", weather);
+        verify(restTemplate, times(5)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+        assertEquals(1.0, meterRegistry.get("weather.circuit.rejected").tag("reason", "open").counter().count());
+    }
+
+    @Test
+    void 저장된_스냅샷을_불러와_재시작_직후에도_외부_API_없이_응답한다() {
+        // given
+        snapshotStore = new WeatherSnapshotStore(tempDir.resolve("weather-snapshot.bin").toString());
+        weatherClient = createWeatherClient("", false);
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willReturn(ResponseEntity.ok(weathers()));
+        setNow(LocalDateTime.of(2024, 9, 12, 1, 0));
+        weatherClient.refreshSnapshot();
+
+        WeatherClient restarted = createWeatherClient("", false);
+        ReflectionTestUtils.setField(restarted, "clock", Clock.fixed(
+                LocalDateTime.of(2024, 9, 12, 2, 0).atZone(ZONE).toInstant(), ZONE));
+
+        // when
+        restarted.loadPersistedSnapshot();
+        String weather = restarted.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", weather);
+        assertEquals(Duration.ofHours(1), restarted.getSnapshotAge().orElseThrow());
+        verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    void 요청_스레드는_스냅샷을_파일에_쓰지_않고_백그라운드_갱신에서_저장한다() {
+        // given
+        Path snapshotFile = tempDir.resolve("weather-snapshot.bin");
+        snapshotStore = new WeatherSnapshotStore(snapshotFile.toString());
+        weatherClient = createWeatherClient("", false);
+        setToday(LocalDate.of(2024, 9, 12));
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willReturn(ResponseEntity.ok(weathers()))
+                .willThrow(new ResourceAccessException("timeout"));
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+        boolean writtenOnRequest = Files.exists(snapshotFile);
+        weatherClient.refreshSnapshot();
+
+        // then
+        assertEquals("Sunny", weather);
+        assertFalse(writtenOnRequest);
+        assertTrue(Files.exists(snapshotFile));
+        assertEquals(1.0, meterRegistry.get("weather.refresh").tag("result", "failure").counter().count());
+    }
+
+    private WeatherClient createWeatherClient(String fallbackWeather, boolean useLastKnownWeather) {
+        WeatherCircuitBreaker circuitBreaker = new WeatherCircuitBreaker(new WeatherCircuitBreakerProperties(
+                20, 5, 50, Duration.ofSeconds(30), 1, 4, Duration.ZERO), meterRegistry);
+        return new WeatherClient(restTemplate, circuitBreaker, snapshotStore, meterRegistry, "https://f-api.github.io",
+                WeatherParseMode.FULL, Duration.ofHours(6), fallbackWeather, useLastKnownWeather);
+    }
+
+    private void givenWeathers() {
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willReturn(ResponseEntity.ok(weathers()));
+    }
+
+    private WeatherDto[] weathers() {
+        return new WeatherDto[]{
+                new WeatherDto("09-12", "Sunny"),
+                new WeatherDto("09-13", "Rainy")
+        };
+    }
+
+    private void setToday(LocalDate date) {
+        setNow(date.atTime(12, 0));
+    }
+
+    private void setNow(LocalDateTime now) {
+        Clock clock = Clock.fixed(now.atZone(ZONE).toInstant(), ZONE);
+        ReflectionTestUtils.setField(weatherClient, "clock", clock);
+    }
+}
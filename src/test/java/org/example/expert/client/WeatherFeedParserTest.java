@@ -0,0 +1,87 @@
+package org.example.expert.client;
+
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherFeedParserTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 9, 12);
+
+    @Test
+    void 오늘_날짜의_날씨를_찾는다() throws IOException {
+        // given
+        String json = "[{\"date\":\"09-11\",\"weather\":\"Rainy\"},"
+                + "{\"weather\":\"Sunny\",\"date\":\"09-12\",\"extra\":{\"a\":[1,2]}},"
+                + "{\"date\":\"09-13\",\"weather\":\"Cloudy\"}]";
+
+        // when
+        String weather = WeatherFeedParser.findWeather(stream(json), TODAY);
+
+        // then
+        assertEquals("Sunny", weather);
+    }
+
+    @Test
+    void 날씨가_날짜보다_앞에_있어도_오늘_날짜의_날씨를_찾는다() throws IOException {
+        // given
+        String json = "[{\"weather\":\"Rainy\",\"date\":\"09-11\"},"
+                + "{\"weather\":\"Sunny\",\"date\":\"09-12\"},"
+                + "{\"weather\":\"Cloudy\",\"date\":\"09-13\"}]";
+
+        // when & then
+        assertEquals("Sunny", WeatherFeedParser.findWeather(stream(json), TODAY));
+        assertEquals("Cloudy", WeatherFeedParser.findWeather(stream(json), LocalDate.of(2024, 9, 13)));
+        assertNull(WeatherFeedParser.findWeather(stream(json), LocalDate.of(2024, 9, 14)));
+    }
+
+    @Test
+    void 오늘_날짜를_찾으면_나머지는_읽지_않는다() throws IOException {
+        // given
+        String json = "[{\"date\":\"09-12\",\"weather\":\"Sunny\"}, 이후는 잘못된 JSON";
+
+        // when
+        String weather = WeatherFeedParser.findWeather(stream(json), TODAY);
+
+        // then
+        assertEquals("Sunny", weather);
+    }
+
+    @Test
+    void 오늘_날짜가_없으면_null을_반환한다() throws IOException {
+        // given
+        String json = "[{\"date\":\"09-11\",\"weather\":\"Rainy\"}]";
+
+        // when & then
+        assertNull(WeatherFeedParser.findWeather(stream(json), TODAY));
+    }
+
+    @Test
+    void 빈_배열이면_에러가_발생한다() {
+        // when
+        ServerException exception = assertThrows(ServerException.class, () -> WeatherFeedParser.findWeather(stream("[]"), TODAY));
+
+        // then
+        assertEquals("날씨 데이터가 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 배열이_아니면_에러가_발생한다() {
+        // when
+        ServerException exception = assertThrows(ServerException.class, () -> WeatherFeedParser.findWeather(stream("{}"), TODAY));
+
+        // then
+        assertEquals("날씨 데이터 형식이 올바르지 않습니다.", exception.getMessage());
+    }
+
+    private InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
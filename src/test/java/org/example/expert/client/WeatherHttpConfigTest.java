@@ -0,0 +1,225 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 HTTP 서버를 날씨 API 대신 띄워 연결 재사용과 제한 시간을 확인합니다.
+ */
+class WeatherHttpConfigTest {
+
+    private static final String WEATHER_JSON = "[{\"date\":\"09-12\",\"weather\":\"Sunny\"}]";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final List<Integer> clientPorts = new CopyOnWriteArrayList<>();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ClientHttpRequestFactory requestFactory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/f-api/weather.json", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            respond(exchange, WEATHER_JSON);
+        });
+        server.createContext("/slow", exchange -> {
+            sleep(1_000);
+            respond(exchange, WEATHER_JSON);
+        });
+        server.createContext("/trickle", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream body = exchange.getResponseBody()) {
+                for (int i = 0; i < 30; i++) {
+                    body.write(' ');
+                    body.flush();
+                    sleep(100);
+                }
+            } catch (IOException ignored) {
+                // 클라이언트가 먼저 연결을 끊은 경우
+            }
+        });
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (requestFactory instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void 커넥션_풀로_연결을_재사용한다() {
+        // given
+        requestFactory = WeatherHttpConfig.pooledRequestFactory(properties(Duration.ofSeconds(2), Duration.ofSeconds(3)), meterRegistry);
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+
+        // when
+        restTemplate.getForObject(baseUrl() + "/f-api/weather.json", String.class);
+        restTemplate.getForObject(baseUrl() + "/f-api/weather.json", String.class);
+
+        // then
+        assertEquals(2, clientPorts.size());
+        assertEquals(clientPorts.get(0), clientPorts.get(1));
+        assertEquals(1.0, meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", "available").gauge().value());
+        assertEquals(0.0, meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", "leased").gauge().value());
+    }
+
+    @Test
+    void 요청이_끝나면_전체_제한_시간_예약을_취소한다() {
+        // given
+        requestFactory = WeatherHttpConfig.pooledRequestFactory(properties(Duration.ofMillis(200), Duration.ofSeconds(30)), meterRegistry);
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            restTemplate.getForObject(baseUrl() + "/f-api/weather.json", String.class);
+        }
+        assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(baseUrl() + "/slow", String.class));
+
+        // then
+        ScheduledThreadPoolExecutor deadlineScheduler =
+                (ScheduledThreadPoolExecutor) ReflectionTestUtils.getField(requestFactory, "deadlineScheduler");
+        assertTrue(deadlineScheduler.getQueue().isEmpty());
+    }
+
+    @Test
+    void WeatherClient가_로컬_서버에서_날씨를_가져온다() {
+        // given
+        requestFactory = WeatherHttpConfig.pooledRequestFactory(properties(Duration.ofSeconds(2), Duration.ofSeconds(3)), meterRegistry);
+        WeatherClient weatherClient = createWeatherClient(WeatherParseMode.FULL);
+
+        // when
+        weatherClient.refreshSnapshot();
+
+        // then
+        assertEquals(1.0, meterRegistry.get("weather.refresh").tag("result", "success").counter().count());
+    }
+
+    @Test
+    void 스트리밍_모드로_오늘_날씨만_읽는다() {
+        // given
+        requestFactory = WeatherHttpConfig.pooledRequestFactory(properties(Duration.ofSeconds(2), Duration.ofSeconds(3)), meterRegistry);
+        WeatherClient weatherClient = createWeatherClient(WeatherParseMode.STREAMING);
+        ReflectionTestUtils.setField(weatherClient, "clock",
+                Clock.fixed(Instant.parse("2024-09-12T03:00:00Z"), ZoneId.of("Asia/Seoul")));
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", weather);
+        assertTrue(weatherClient.getSnapshotAge().isEmpty());
+    }
+
+    @Test
+    void 응답이_늦으면_읽기_제한_시간에_실패한다() {
+        // given
+        requestFactory = WeatherHttpConfig.pooledRequestFactory(properties(Duration.ofMillis(200), Duration.ofSeconds(3)), meterRegistry);
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        long startedAt = System.nanoTime();
+
+        // when & then
+        assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(baseUrl() + "/slow", String.class));
+        assertTrue(elapsedMillis(startedAt) < 900);
+    }
+
+    @Test
+    void 응답이_조금씩_계속_들어와도_전체_제한_시간에_실패한다() {
+        // given
+        requestFactory = WeatherHttpConfig.pooledRequestFactory(properties(Duration.ofMillis(500), Duration.ofMillis(600)), meterRegistry);
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        long startedAt = System.nanoTime();
+
+        // when & then
+        assertThrows(RestClientException.class, () -> restTemplate.getForObject(baseUrl() + "/trickle", String.class));
+        assertTrue(elapsedMillis(startedAt) < 2_000);
+    }
+
+    @Test
+    void HTTP2_모드로도_날씨를_가져온다() {
+        // given
+        requestFactory = WeatherHttpConfig.http2RequestFactory(new WeatherHttpProperties(
+                HttpClient.Version.HTTP_2, 4, Duration.ofSeconds(1), Duration.ofSeconds(2),
+                Duration.ofSeconds(3), Duration.ofMillis(500), Duration.ofSeconds(30)));
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+
+        // when
+        String body = restTemplate.getForObject(baseUrl() + "/f-api/weather.json", String.class);
+
+        // then
+        assertEquals(WEATHER_JSON, body);
+    }
+
+    private WeatherClient createWeatherClient(WeatherParseMode parseMode) {
+        WeatherCircuitBreaker circuitBreaker = new WeatherCircuitBreaker(new WeatherCircuitBreakerProperties(
+                20, 5, 50, Duration.ofSeconds(30), 1, 4, Duration.ZERO), meterRegistry);
+        return new WeatherClient(new RestTemplate(requestFactory), circuitBreaker, new WeatherSnapshotStore(""),
+                meterRegistry, baseUrl(), parseMode, Duration.ofHours(6), "", false);
+    }
+
+    private WeatherHttpProperties properties(Duration readTimeout, Duration totalTimeout) {
+        return new WeatherHttpProperties(HttpClient.Version.HTTP_1_1, 4, Duration.ofSeconds(1), readTimeout,
+                totalTimeout, Duration.ofMillis(500), Duration.ofSeconds(30));
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.expert.client;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherSnapshotStoreTest {
+
+    private static final Instant FETCHED_AT = Instant.parse("2024-09-12T03:00:00Z");
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void 저장한_스냅샷을_그대로_다시_읽는다() {
+        // given
+        WeatherSnapshotStore store = new WeatherSnapshotStore(tempDir.resolve("weather-snapshot.bin").toString());
+        store.save(snapshot());
+
+        // when
+        Optional<WeatherSnapshot> loaded = store.load();
+
+        // then
+        assertTrue(loaded.isPresent());
+        assertEquals(FETCHED_AT, loaded.get().getFetchedAt());
+        assertEquals("Sunny", loaded.get().findWeather(LocalDate.of(2024, 9, 12)));
+        assertEquals("흐림", loaded.get().findWeather(LocalDate.of(2024, 2, 29)));
+        assertEquals("Sunny", loaded.get().findWeather(LocalDate.of(2024, 12, 31)));
+        assertNull(loaded.get().findWeather(LocalDate.of(2024, 1, 1)));
+    }
+
+    @Test
+    void 파일이_없으면_빈_값을_반환한다() {
+        // given
+        WeatherSnapshotStore store = new WeatherSnapshotStore(tempDir.resolve("missing.bin").toString());
+
+        // when & then
+        assertTrue(store.load().isEmpty());
+    }
+
+    @Test
+    void 경로가_비어_있으면_저장하지_않는다() {
+        // given
+        WeatherSnapshotStore store = new WeatherSnapshotStore("");
+
+        // when
+        store.save(snapshot());
+
+        // then
+        assertTrue(store.load().isEmpty());
+    }
+
+    @Test
+    void 이동에_실패하면_임시_파일을_남기지_않는다() throws IOException {
+        // given: 저장 위치에 비어 있지 않은 디렉터리가 있으면 임시 파일을 옮길 수 없습니다.
+        Path path = tempDir.resolve("weather-snapshot.bin");
+        Files.createDirectories(path);
+        Files.writeString(path.resolve("occupied"), "x");
+        WeatherSnapshotStore store = new WeatherSnapshotStore(path.toString());
+
+        // when
+        store.save(snapshot());
+
+        // then
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of(path), files.toList());
+        }
+    }
+
+    @Test
+    void 손상된_파일은_무시한다() throws IOException {
+        // given
+        Path path = tempDir.resolve("weather-snapshot.bin");
+        WeatherSnapshotStore store = new WeatherSnapshotStore(path.toString());
+        store.save(snapshot());
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[20] ^= 0x7f;
+        Files.write(path, bytes);
+
+        // when & then
+        assertTrue(store.load().isEmpty());
+    }
+
+    @Test
+    void 잘린_파일은_무시한다() throws IOException {
+        // given
+        Path path = tempDir.resolve("weather-snapshot.bin");
+        WeatherSnapshotStore store = new WeatherSnapshotStore(path.toString());
+        store.save(snapshot());
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length / 2));
+
+        // when & then
+        assertTrue(store.load().isEmpty());
+    }
+
+    private WeatherSnapshot snapshot() {
+        WeatherTable table = new WeatherTable.Builder()
+                .put("09-12", "Sunny")
+                .put("02-29", "흐림")
+                .put("12-31", "Sunny")
+                .build();
+        return new WeatherSnapshot(table, FETCHED_AT);
+    }
+}
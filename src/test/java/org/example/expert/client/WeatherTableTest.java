@@ -0,0 +1,68 @@
+package org.example.expert.client;
+
+import org.example.expert.client.dto.WeatherDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherTableTest {
+
+    @Test
+    void 날짜로_날씨를_조회한다() {
+        // given
+        WeatherTable table = WeatherTable.of(new WeatherDto[]{
+                new WeatherDto("01-01", "Snowy"),
+                new WeatherDto("02-29", "Cloudy"),
+                new WeatherDto("12-31", "Sunny")
+        });
+
+        // when & then
+        assertEquals("Snowy", table.find(LocalDate.of(2023, 1, 1)));
+        assertEquals("Cloudy", table.find(LocalDate.of(2024, 2, 29)));
+        assertEquals("Sunny", table.find(LocalDate.of(2023, 12, 31)));
+        assertNull(table.find(LocalDate.of(2023, 3, 1)));
+    }
+
+    @Test
+    void 같은_날씨_문자열은_사전에_한번만_저장한다() {
+        // given
+        WeatherTable table = WeatherTable.of(new WeatherDto[]{
+                new WeatherDto("03-01", "Sunny"),
+                new WeatherDto("03-02", "Rainy"),
+                new WeatherDto("03-03", "Sunny")
+        });
+
+        // when & then
+        assertEquals(2, table.dictionary().length);
+        assertSame(table.find(LocalDate.of(2024, 3, 1)), table.find(LocalDate.of(2024, 3, 3)));
+    }
+
+    @Test
+    void 잘못된_날짜는_무시하고_처음_나온_값을_사용한다() {
+        // given
+        WeatherTable table = WeatherTable.of(new WeatherDto[]{
+                new WeatherDto("02-30", "Sunny"),
+                new WeatherDto("13-01", "Sunny"),
+                new WeatherDto("4-1", "Sunny"),
+                new WeatherDto(null, "Sunny"),
+                new WeatherDto("04-01", "Rainy"),
+                new WeatherDto("04-01", "Sunny")
+        });
+
+        // when & then
+        assertEquals(1, table.dictionary().length);
+        assertEquals("Rainy", table.find(LocalDate.of(2024, 4, 1)));
+        assertFalse(table.isEmpty());
+    }
+
+    @Test
+    void 날씨_데이터가_없으면_빈_테이블이다() {
+        // given
+        WeatherTable table = WeatherTable.of(new WeatherDto[]{new WeatherDto("99-99", "Sunny")});
+
+        // when & then
+        assertTrue(table.isEmpty());
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthUserArgumentResolverTest {
+
+    private final AuthUserArgumentResolver resolver = new AuthUserArgumentResolver();
+
+    @Test
+    void JwtFilter가_저장한_사용자_정보를_그대로_반환한다() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        AuthenticatedPrincipal.set(request, authUser);
+
+        // when
+        Object resolved = resolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+
+        // then
+        assertSame(authUser, resolved);
+    }
+
+    @Test
+    void 인증_정보가_없으면_AuthException을_던진다() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        // when & then
+        AuthException exception = assertThrows(AuthException.class,
+                () -> resolver.resolveArgument(null, null, new ServletWebRequest(request), null));
+        assertEquals("인증 정보가 없습니다.", exception.getMessage());
+    }
+}
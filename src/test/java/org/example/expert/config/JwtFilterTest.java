@@ -0,0 +1,188 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class JwtFilterTest {
+
+    private static final String SECRET_KEY = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+
+    private MeterRegistry meterRegistry;
+    private TokenRevocationList tokenRevocationList;
+    private JwtUtil jwtUtil;
+    private JwtFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenRevocationList = new TokenRevocationList(mock(TokenRevocationRepository.class), 100, meterRegistry);
+        JwtTokenCache tokenCache = new JwtTokenCache(100, meterRegistry);
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET_KEY, "", Duration.ofHours(1), tokenCache);
+        keyRing.init();
+        jwtUtil = new JwtUtil(keyRing, tokenCache, tokenRevocationList);
+        JwtRouteMatcher routeMatcher = new JwtRouteMatcher(Map.of(
+                "/auth", JwtRouteMatcher.Route.PUBLIC,
+                "/admin", JwtRouteMatcher.Route.ADMIN
+        ));
+        jwtFilter = new JwtFilter(jwtUtil, routeMatcher, new JwtRejectionLogger(Duration.ofSeconds(10), meterRegistry));
+    }
+
+    @Test
+    void 인증이_필요_없는_경로는_토큰_없이_통과한다() throws Exception {
+        // when
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = doFilter("/auth/signin", null, chain);
+
+        // then
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void 유효한_토큰이면_사용자_정보를_저장하고_통과한다() throws Exception {
+        // given
+        String bearerToken = jwtUtil.createToken(1L, "a@a.com", UserRole.USER);
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        MockHttpServletResponse response = doFilter("/todos", bearerToken, chain);
+
+        // then
+        assertEquals(200, response.getStatus());
+        AuthUser authUser = AuthenticatedPrincipal.get(chain.getRequest());
+        assertEquals(1L, authUser.getId());
+        assertEquals(UserRole.USER, authUser.getUserRole());
+    }
+
+    @Test
+    void 토큰이_없으면_400을_반환한다() throws Exception {
+        // when
+        MockHttpServletResponse response = doFilter("/todos", null, new MockFilterChain());
+
+        // then
+        assertEquals(400, response.getStatus());
+        assertEquals("JWT 토큰이 필요합니다.", response.getErrorMessage());
+    }
+
+    @Test
+    void Bearer_형식이_아니면_예외_없이_400을_반환한다() throws Exception {
+        // when
+        MockHttpServletResponse response = doFilter("/todos", "Basic abc", new MockFilterChain());
+
+        // then
+        assertEquals(400, response.getStatus());
+        assertEquals("잘못된 JWT 토큰입니다.", response.getErrorMessage());
+    }
+
+    @Test
+    void 구조가_잘못된_토큰은_서명_검증_없이_401을_반환한다() throws Exception {
+        // when
+        MockHttpServletResponse response = doFilter("/todos", "Bearer not-a-jwt", new MockFilterChain());
+
+        // then
+        assertEquals(401, response.getStatus());
+        assertEquals(1.0, meterRegistry.get("jwt.rejected").tag("reason", "INVALID_SIGNATURE").counter().count());
+    }
+
+    @Test
+    void 서명이_잘못된_토큰은_401을_반환하고_같은_토큰은_다시_검증하지_않는다() throws Exception {
+        // given
+        String bearerToken = jwtUtil.createToken(1L, "a@a.com", UserRole.USER);
+        String tampered = bearerToken.substring(0, bearerToken.length() - 2) + (bearerToken.endsWith("AA") ? "BB" : "AA");
+
+        // when
+        MockHttpServletResponse first = doFilter("/todos", tampered, new MockFilterChain());
+        MockHttpServletResponse second = doFilter("/todos", tampered, new MockFilterChain());
+
+        // then
+        assertEquals(401, first.getStatus());
+        assertEquals(401, second.getStatus());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "jwt-rejected").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void 만료된_토큰은_401을_반환한다() throws Exception {
+        // given
+        String expired = "Bearer " + Jwts.builder()
+                .setSubject("1")
+                .claim("email", "a@a.com")
+                .claim("userRole", UserRole.USER)
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY)), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when
+        MockHttpServletResponse response = doFilter("/todos", expired, new MockFilterChain());
+
+        // then
+        assertEquals(401, response.getStatus());
+        assertEquals("만료된 JWT 토큰입니다.", response.getErrorMessage());
+    }
+
+    @Test
+    void 폐기된_토큰은_캐시에_있어도_401을_반환하고_다시_발급한_토큰은_통과한다() throws Exception {
+        // given
+        String revoked = jwtUtil.createToken(1L, "a@a.com", UserRole.USER);
+        doFilter("/todos", revoked, new MockFilterChain());
+        tokenRevocationList.revokeAll(1L);
+        Thread.sleep(2); // 폐기와 다른 밀리초에 다시 발급합니다. 같은 초여도 통과해야 합니다.
+        String reissued = jwtUtil.createToken(1L, "a@a.com", UserRole.USER);
+
+        // when
+        MockHttpServletResponse response = doFilter("/todos", revoked, new MockFilterChain());
+        MockHttpServletResponse reissuedResponse = doFilter("/todos", reissued, new MockFilterChain());
+
+        // then
+        assertEquals(401, response.getStatus());
+        assertEquals(200, reissuedResponse.getStatus());
+        assertEquals(1.0, meterRegistry.get("jwt.rejected").tag("reason", "REVOKED").counter().count());
+        assertFalse(tokenRevocationList.isRevoked(2L, 0));
+    }
+
+    @Test
+    void 관리자가_아니면_관리자_경로에서_403을_반환한다() throws Exception {
+        // given
+        String bearerToken = jwtUtil.createToken(1L, "a@a.com", UserRole.USER);
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        MockHttpServletResponse response = doFilter("/admin/users/1", bearerToken, chain);
+
+        // then
+        assertEquals(403, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    private MockHttpServletResponse doFilter(String uri, String authorization, MockFilterChain chain)
+            throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtFilter.doFilter(request, response, chain);
+        return response;
+    }
+}
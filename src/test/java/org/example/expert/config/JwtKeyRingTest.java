@@ -0,0 +1,162 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class JwtKeyRingTest {
+
+    private static final String OLD_SECRET = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+    private static final String NEW_SECRET = Base64.getEncoder().encodeToString("new-secret-key-for-hmac-sha-256-signing!".getBytes());
+
+    @TempDir
+    Path tempDir;
+
+    private Path keyFile;
+    private JwtKeyRing keyRing;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        keyFile = tempDir.resolve("jwt-keys.properties");
+        writeKeys("default", "key.default=" + OLD_SECRET);
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtTokenCache tokenCache = new JwtTokenCache(100, meterRegistry);
+        keyRing = new JwtKeyRing("", keyFile.toString(), Duration.ofHours(1), tokenCache);
+        keyRing.init();
+        jwtUtil = new JwtUtil(keyRing, tokenCache, new TokenRevocationList(mock(TokenRevocationRepository.class), 100, meterRegistry));
+    }
+
+    @Test
+    void 새_토큰에는_활성_키의_kid_를_담는다() {
+        // when
+        String bearerToken = jwtUtil.createToken(1L, "a@a.com", UserRole.USER);
+
+        // then
+        String header = new String(Base64.getUrlDecoder().decode(bearerToken.substring(7).split("\\.")[0]));
+        assertTrue(header.contains("\"kid\":\"default\""));
+    }
+
+    @Test
+    void 활성_키를_바꿔도_이전_키로_서명한_토큰은_계속_유효하다() throws IOException {
+        // given
+        String oldToken = jwtUtil.createToken(1L, "a@a.com", UserRole.USER);
+
+        // when
+        writeKeys("2026-10", "key.default=" + OLD_SECRET, "key.2026-10=" + NEW_SECRET);
+        keyRing.reload();
+        String newToken = jwtUtil.createToken(1L, "a@a.com", UserRole.USER);
+
+        // then
+        assertEquals("2026-10", keyRing.active().kid());
+        assertTrue(jwtUtil.verify(oldToken).isValid());
+        assertTrue(jwtUtil.verify(newToken).isValid());
+    }
+
+    @Test
+    void 파일에서_빠진_키는_유예_기간_동안만_검증에_사용한다() throws IOException {
+        // given
+        Properties rotated = new Properties();
+        rotated.setProperty("active", "2026-10");
+        rotated.setProperty("key.2026-10", NEW_SECRET);
+        JwtKeyRing.KeySet initial = keyRing.merge(emptyKeySet(), properties("default", "key.default=" + OLD_SECRET), 0);
+
+        // when
+        JwtKeyRing.KeySet duringGrace = keyRing.merge(initial, rotated, 1_000);
+        JwtKeyRing.KeySet stillGrace = keyRing.merge(duringGrace, rotated, 1_000 + Duration.ofMinutes(59).toMillis());
+        JwtKeyRing.KeySet afterGrace = keyRing.merge(stillGrace, rotated, 1_000 + Duration.ofHours(1).toMillis());
+
+        // then
+        assertTrue(duringGrace.keys().containsKey("default"));
+        assertTrue(stillGrace.keys().containsKey("default"));
+        assertFalse(afterGrace.keys().containsKey("default"));
+        assertTrue(afterGrace.retainUntil().isEmpty());
+    }
+
+    @Test
+    void kid_가_없는_토큰은_default_키로_검증하고_모르는_kid_는_거절한다() {
+        // given
+        String withoutKid = "Bearer " + Jwts.builder()
+                .setSubject("1")
+                .claim("email", "a@a.com")
+                .claim("userRole", UserRole.USER)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(keyRing.resolve("default"), SignatureAlgorithm.HS256)
+                .compact();
+        String unknownKid = "Bearer " + Jwts.builder()
+                .setHeaderParam("kid", "unknown")
+                .setSubject("1")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(keyRing.resolve("default"), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when & then
+        assertTrue(jwtUtil.verify(withoutKid).isValid());
+        assertEquals(JwtVerification.Result.INVALID_SIGNATURE, jwtUtil.verify(unknownKid).result());
+    }
+
+    @Test
+    void 같은_kid_의_키가_바뀌면_이전_키로_검증해_캐시한_토큰도_거절한다() throws IOException {
+        // given
+        String oldToken = jwtUtil.createToken(1L, "a@a.com", UserRole.USER);
+        assertTrue(jwtUtil.verify(oldToken).isValid());
+
+        // when
+        writeKeys("default", "key.default=" + NEW_SECRET);
+        keyRing.reload();
+
+        // then
+        assertEquals(JwtVerification.Result.INVALID_SIGNATURE, jwtUtil.verify(oldToken).result());
+        assertTrue(jwtUtil.verify(jwtUtil.createToken(1L, "a@a.com", UserRole.USER)).isValid());
+    }
+
+    @Test
+    void 잘못된_키_파일을_읽으면_기존_키를_유지한다() throws IOException {
+        // given
+        writeKeys("missing", "key.default=" + OLD_SECRET);
+
+        // when
+        keyRing.reload();
+
+        // then
+        assertEquals("default", keyRing.active().kid());
+        assertTrue(jwtUtil.verify(jwtUtil.createToken(1L, "a@a.com", UserRole.USER)).isValid());
+    }
+
+    private void writeKeys(String active, String... keys) throws IOException {
+        Files.writeString(keyFile, "active=" + active + "\n" + String.join("\n", keys) + "\n");
+    }
+
+    private static Properties properties(String active, String... keys) {
+        Properties properties = new Properties();
+        properties.setProperty("active", active);
+        for (String key : keys) {
+            int separator = key.indexOf('=');
+            properties.setProperty(key.substring(0, separator), key.substring(separator + 1));
+        }
+        return properties;
+    }
+
+    private static JwtKeyRing.KeySet emptyKeySet() {
+        return new JwtKeyRing.KeySet(null, Map.of(), Map.of());
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.example.expert.config.JwtRouteMatcher.Route.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtRouteMatcherTest {
+
+    private final JwtRouteMatcher routeMatcher = new JwtRouteMatcher(Map.of(
+            "/auth", PUBLIC,
+            "/admin", ADMIN,
+            "/admin/public", PUBLIC
+    ));
+
+    @Test
+    void 등록된_접두사로_경로를_분류한다() {
+        assertEquals(PUBLIC, routeMatcher.classify("/auth/signin"));
+        assertEquals(ADMIN, routeMatcher.classify("/admin/users/1"));
+        assertEquals(AUTHENTICATED, routeMatcher.classify("/todos"));
+        assertEquals(AUTHENTICATED, routeMatcher.classify("/"));
+        assertEquals(AUTHENTICATED, routeMatcher.classify("/a"));
+    }
+
+    @Test
+    void 겹치는_접두사는_긴_접두사를_우선한다() {
+        assertEquals(PUBLIC, routeMatcher.classify("/admin/public/health"));
+    }
+
+    @Test
+    void 슬래시로_시작하지_않는_접두사는_등록할_수_없다() {
+        assertThrows(IllegalArgumentException.class, () -> new JwtRouteMatcher(Map.of("auth", PUBLIC)));
+    }
+}
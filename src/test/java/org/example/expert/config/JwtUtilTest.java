@@ -0,0 +1,89 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class JwtUtilTest {
+
+    private static final String SECRET_KEY = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+
+    private MeterRegistry meterRegistry;
+    private JwtTokenCache tokenCache;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenCache = new JwtTokenCache(100, meterRegistry);
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET_KEY, "", Duration.ofHours(1), tokenCache);
+        keyRing.init();
+        jwtUtil = new JwtUtil(keyRing, tokenCache, new TokenRevocationList(mock(TokenRevocationRepository.class), 100, meterRegistry));
+    }
+
+    @Test
+    void 토큰을_검증하고_사용자_정보를_반환한다() {
+        // given
+        String bearerToken = jwtUtil.createToken(1L, "a@a.com", UserRole.ADMIN);
+
+        // when
+        JwtVerification verification = jwtUtil.verify(bearerToken);
+
+        // then
+        assertTrue(verification.isValid());
+        AuthUser authUser = verification.authUser();
+        assertEquals(1L, authUser.getId());
+        assertEquals("a@a.com", authUser.getEmail());
+        assertEquals(UserRole.ADMIN, authUser.getUserRole());
+    }
+
+    @Test
+    void 같은_토큰은_캐시에서_다시_파싱하지_않고_가져온다() {
+        // given
+        String bearerToken = jwtUtil.createToken(1L, "a@a.com", UserRole.USER);
+        AuthUser first = jwtUtil.verify(bearerToken).authUser();
+
+        // when
+        AuthUser second = jwtUtil.verify(bearerToken).authUser();
+
+        // then
+        assertSame(first, second);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "jwt").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "jwt").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void 서명이_잘못된_토큰은_사용자_정보를_캐싱하지_않는다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "a@a.com", UserRole.USER));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // when
+        JwtVerification verification = jwtUtil.verify("Bearer " + tampered);
+
+        // then
+        assertEquals(JwtVerification.Result.INVALID_SIGNATURE, verification.result());
+        assertNull(tokenCache.getIfPresent(JwtTokenCache.digest(tampered)));
+    }
+
+    @Test
+    void 만료_시각이_지난_항목은_캐시에서_가져오지_않는다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long expiresAt = System.currentTimeMillis() - 1;
+
+        // when
+        tokenCache.put("token", new JwtTokenCache.VerifiedToken(authUser, 0, expiresAt));
+
+        // then
+        assertNull(tokenCache.getIfPresent("token"));
+    }
+}
@@ -1,18 +1,27 @@
 package org.example.expert.config;
 
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
 
-@ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
-    @InjectMocks
+    private final PasswordHashingExecutor hashingExecutor =
+            new PasswordHashingExecutor(1, 1, Duration.ZERO, new SimpleMeterRegistry());
+
     private PasswordEncoder passwordEncoder;
 
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = new PasswordEncoder(hashingExecutor, 5, Duration.ofMillis(250), 14, BCrypt.MIN_COST);
+        passwordEncoder.init();
+    }
+
     @Test
     void matches_메서드가_정상적으로_동작한다() {
         // given
@@ -25,4 +34,55 @@ class PasswordEncoderTest {
         // then
         assertFalse(matches);
     }
+
+    @Test
+    void 설정된_비용으로_해싱한다() {
+        // when
+        String encodedPassword = passwordEncoder.encode("testPassword");
+
+        // then
+        assertTrue(encodedPassword.startsWith("$2a$05$"));
+        assertTrue(passwordEncoder.matches("testPassword", encodedPassword));
+        assertFalse(passwordEncoder.needsRehash(encodedPassword));
+    }
+
+    @Test
+    void 비용이_낮은_해시만_다시_해싱이_필요하다() {
+        // given
+        String encodedPassword = "$2a$04$jfQeXoc7b5IWWvZFPDE.he56RmITYyjnPA4haWZB2EgFda9uDXsHC";
+        String strongerPassword = "$2a$10$jfQeXoc7b5IWWvZFPDE.he56RmITYyjnPA4haWZB2EgFda9uDXsHC";
+
+        // when & then
+        assertTrue(passwordEncoder.needsRehash(encodedPassword));
+        // 다른 서버가 더 높은 비용으로 만든 해시를 낮추지 않습니다.
+        assertFalse(passwordEncoder.needsRehash(strongerPassword));
+        assertEquals(4, PasswordEncoder.costOf(encodedPassword));
+        assertEquals(-1, PasswordEncoder.costOf("plain"));
+    }
+
+    @Test
+    void 비용을_지정하지_않으면_목표_시간에_맞춰_계산한다() {
+        // given
+        PasswordEncoder calibrated = new PasswordEncoder(hashingExecutor, 0, Duration.ZERO, 14, BCrypt.MIN_COST);
+
+        // when
+        calibrated.init();
+
+        // then
+        assertEquals(BCrypt.MIN_COST, calibrated.getCost());
+        assertTrue(PasswordEncoder.calibrate(Duration.ofSeconds(1), 6) <= 6);
+    }
+
+    @Test
+    void 계산한_비용이_최소_비용보다_낮으면_최소_비용을_사용한다() {
+        // given
+        PasswordEncoder calibrated = new PasswordEncoder(hashingExecutor, 0, Duration.ZERO, 14, 6);
+
+        // when
+        calibrated.init();
+
+        // then
+        assertEquals(6, calibrated.getCost());
+        assertTrue(calibrated.needsRehash("$2a$05$jfQeXoc7b5IWWvZFPDE.he56RmITYyjnPA4haWZB2EgFda9uDXsHC"));
+    }
 }
@@ -0,0 +1,113 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingExecutorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashingExecutor hashingExecutor =
+            new PasswordHashingExecutor(1, 1, Duration.ZERO, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Test
+    void 작업_결과를_반환하고_처리_시간을_기록한다() {
+        // when
+        String result = hashingExecutor.execute("matches", () -> "ok");
+
+        // then
+        assertEquals("ok", result);
+        assertEquals(1, meterRegistry.get("password.hashing").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void 작업에서_발생한_예외를_그대로_던진다() {
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> hashingExecutor.execute("matches", () -> {
+            throw new InvalidRequestException("잘못된 비밀번호입니다.");
+        }));
+    }
+
+    @Test
+    void 스레드와_대기열이_가득_차면_기다리지_않고_거절한다() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hashingExecutor.execute("matches", () -> {
+            started.countDown();
+            await(release);
+            return "first";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hashingExecutor.execute("matches", () -> "second"));
+        while (meterRegistry.get("executor.queued").tag("name", "password-hashing").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // when
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> hashingExecutor.execute("matches", () -> "third"));
+
+        // then
+        assertEquals("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", exception.getMessage());
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+        release.countDown();
+        assertEquals("first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("second", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void 대기열이_가득_차도_대기_시간_안에_자리가_나면_받아들인다() throws Exception {
+        // given
+        MeterRegistry waitingRegistry = new SimpleMeterRegistry();
+        PasswordHashingExecutor waitingExecutor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5), waitingRegistry);
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> waitingExecutor.execute("encode", () -> {
+                started.countDown();
+                await(release);
+                return "first";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> waitingExecutor.execute("encode", () -> "second"));
+            while (waitingRegistry.get("executor.queued").tag("name", "password-hashing").gauge().value() < 1) {
+                Thread.onSpinWait();
+            }
+
+            // when
+            CompletableFuture<String> waiting = CompletableFuture.supplyAsync(() -> waitingExecutor.execute("encode", () -> "third"));
+            release.countDown();
+
+            // then
+            assertEquals("first", running.get(5, TimeUnit.SECONDS));
+            assertEquals("second", queued.get(5, TimeUnit.SECONDS));
+            assertEquals("third", waiting.get(5, TimeUnit.SECONDS));
+        } finally {
+            waitingExecutor.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
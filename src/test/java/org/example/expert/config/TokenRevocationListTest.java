@@ -0,0 +1,121 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+    @Mock
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 폐기_기록이_없는_사용자는_Bloom_filter_만_확인한다() {
+        // given
+        TokenRevocationList revocationList = new TokenRevocationList(tokenRevocationRepository, 100, meterRegistry);
+
+        // when
+        boolean revoked = revocationList.isRevoked(1L, System.currentTimeMillis());
+
+        // then
+        assertFalse(revoked);
+        assertEquals(1.0, meterRegistry.get("jwt.revocation.checks").tag("result", "bloom-negative").counter().count());
+    }
+
+    @Test
+    void 폐기_이전에_발급된_토큰만_폐기된_것으로_본다() {
+        // given
+        TokenRevocationList revocationList = new TokenRevocationList(tokenRevocationRepository, 100, meterRegistry);
+        long issuedAt = System.currentTimeMillis();
+
+        // when
+        revocationList.revokeAll(1L);
+
+        // then
+        ArgumentCaptor<TokenRevocation> captor = ArgumentCaptor.forClass(TokenRevocation.class);
+        verify(tokenRevocationRepository).save(captor.capture());
+        TokenRevocation saved = captor.getValue();
+        assertEquals(1L, saved.getUserId());
+        assertEquals(saved.getRevokedBefore() + JwtUtil.TOKEN_TIME, saved.getExpiresAt());
+
+        assertTrue(revocationList.isRevoked(1L, issuedAt));
+        assertFalse(revocationList.isRevoked(1L, saved.getRevokedBefore()));
+    }
+
+    @Test
+    void 트랜잭션_안에서는_커밋된_뒤에_반영한다() {
+        // given
+        TokenRevocationList revocationList = new TokenRevocationList(tokenRevocationRepository, 100, meterRegistry);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            revocationList.revokeAll(1L);
+            assertFalse(revocationList.isRevoked(1L, 0));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            assertTrue(revocationList.isRevoked(1L, 0));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 갱신하면_만료된_기록을_지우고_남은_기록으로_다시_만든다() {
+        // given
+        TokenRevocationList revocationList = new TokenRevocationList(tokenRevocationRepository, 100, meterRegistry);
+        revocationList.revokeAll(1L);
+        given(tokenRevocationRepository.deleteExpired(anyLong())).willReturn(1);
+        given(tokenRevocationRepository.findByExpiresAtGreaterThan(anyLong()))
+                .willReturn(List.of(new TokenRevocation(2L, Long.MAX_VALUE, Long.MAX_VALUE)));
+
+        // when
+        revocationList.refresh();
+
+        // then
+        assertFalse(revocationList.isRevoked(1L, 0));
+        assertTrue(revocationList.isRevoked(2L, System.currentTimeMillis()));
+        assertEquals(1.0, meterRegistry.get("jwt.revocation.entries").gauge().value());
+    }
+
+    @Test
+    void Bloom_filter_는_추가한_값을_놓치지_않고_오탐률이_설정값_근처다() {
+        // given
+        RevocationBloomFilter bloomFilter = new RevocationBloomFilter(1000, 0.01);
+        for (long userId = 1; userId <= 1000; userId++) {
+            bloomFilter.add(userId);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (long userId = 1001; userId <= 101_000; userId++) {
+            if (bloomFilter.mightContain(userId)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        for (long userId = 1; userId <= 1000; userId++) {
+            assertTrue(bloomFilter.mightContain(userId));
+        }
+        assertTrue(falsePositives < 2_000, "오탐 " + falsePositives + " 건");
+    }
+}
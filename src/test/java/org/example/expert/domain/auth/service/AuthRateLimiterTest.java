@@ -0,0 +1,59 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthRateLimiterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 같은_이메일로_용량을_넘게_요청하면_429_예외를_던진다() {
+        // given
+        AuthRateLimiter rateLimiter = new AuthRateLimiter(properties(true), meterRegistry);
+        rateLimiter.check("user@mail.com", "10.0.0.1");
+        rateLimiter.check("USER@mail.com ", "10.0.0.2");
+
+        // when & then
+        assertThrows(TooManyRequestsException.class, () -> rateLimiter.check("user@mail.com", "10.0.0.3"));
+        assertEquals(1.0, meterRegistry.get("auth.rate.limit.rejected").tag("key", "email").counter().count());
+        assertEquals(2.0, meterRegistry.get("auth.rate.limit.allowed").counter().count());
+    }
+
+    @Test
+    void 같은_IP로_용량을_넘게_요청하면_이메일과_관계없이_거절한다() {
+        // given
+        AuthRateLimiter rateLimiter = new AuthRateLimiter(properties(true), meterRegistry);
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.check("user" + i + "@mail.com", "10.0.0.1");
+        }
+
+        // when & then
+        assertThrows(TooManyRequestsException.class, () -> rateLimiter.check("other@mail.com", "10.0.0.1"));
+        assertEquals(1.0, meterRegistry.get("auth.rate.limit.rejected").tag("key", "ip").counter().count());
+        assertDoesNotThrow(() -> rateLimiter.check("other@mail.com", "10.0.0.2"));
+    }
+
+    @Test
+    void 비활성화하면_제한하지_않는다() {
+        // given
+        AuthRateLimiter rateLimiter = new AuthRateLimiter(properties(false), meterRegistry);
+
+        // when & then
+        for (int i = 0; i < 10; i++) {
+            assertDoesNotThrow(() -> rateLimiter.check("user@mail.com", "10.0.0.1"));
+        }
+    }
+
+    private AuthRateLimitProperties properties(boolean enabled) {
+        return new AuthRateLimitProperties(enabled, 2, Duration.ofMinutes(1), 3, Duration.ofMinutes(1),
+                4, 1000, Duration.ofMinutes(10), List.of());
+    }
+}
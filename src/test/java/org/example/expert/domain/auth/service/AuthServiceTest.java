@@ -2,8 +2,10 @@ package org.example.expert.domain.auth.service;
 
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.RefreshRequest;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.response.RefreshResponse;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.exception.AuthException;
@@ -11,6 +13,7 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserService;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +27,8 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class AuthServiceTest {
@@ -31,12 +36,18 @@ public class AuthServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserService userService;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @InjectMocks
     private AuthService authService;
 
@@ -61,6 +72,8 @@ public class AuthServiceTest {
 
             given(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class))).willReturn(bearerToken);
 
+            given(refreshTokenService.issue(userId)).willReturn("refresh-token");
+
             // when
             SignupResponse signupResponse = authService.signup(signupRequest);
 
@@ -68,6 +81,7 @@ public class AuthServiceTest {
             assertNotNull(signupResponse.getBearerToken());
 
             assertEquals(bearerToken, signupResponse.getBearerToken());
+            assertEquals("refresh-token", signupResponse.getRefreshToken());
         }
 
         @Test
@@ -120,6 +134,8 @@ public class AuthServiceTest {
 
             given(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class))).willReturn(bearerToken);
 
+            given(refreshTokenService.issue(userId)).willReturn("refresh-token");
+
             // when
             SigninResponse signinResponse = authService.signin(signinRequest);
 
@@ -127,6 +143,46 @@ public class AuthServiceTest {
             assertNotNull(signinResponse.getBearerToken());
 
             assertEquals(bearerToken, signinResponse.getBearerToken());
+            assertEquals("refresh-token", signinResponse.getRefreshToken());
+        }
+
+        @Test
+        void 로그인에_성공하면_비용이_낮은_해시를_다시_해싱한다() {
+            // given
+            SigninRequest signinRequest = new SigninRequest("email", "pwd");
+            User user = new User("email", "$2a$04$jfQeXoc7b5IWWvZFPDE.he56RmITYyjnPA4haWZB2EgFda9uDXsHC", UserRole.USER);
+            ReflectionTestUtils.setField(user, "id", 1L);
+            String rehashed = "$2a$10$jfQeXoc7b5IWWvZFPDE.he56RmITYyjnPA4haWZB2EgFda9uDXsHC";
+
+            given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+            given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+            given(passwordEncoder.needsRehash(anyString())).willReturn(true);
+            given(passwordEncoder.encode("pwd")).willReturn(rehashed);
+
+            // when
+            authService.signin(signinRequest);
+
+            // then
+            verify(userService).updatePasswordHash(1L, "$2a$04$jfQeXoc7b5IWWvZFPDE.he56RmITYyjnPA4haWZB2EgFda9uDXsHC", rehashed);
+        }
+
+        @Test
+        void 로그인에_성공해도_비용이_낮지_않으면_다시_해싱하지_않는다() {
+            // given
+            SigninRequest signinRequest = new SigninRequest("email", "pwd");
+            User user = new User("email", "$2a$04$jfQeXoc7b5IWWvZFPDE.he56RmITYyjnPA4haWZB2EgFda9uDXsHC", UserRole.USER);
+            ReflectionTestUtils.setField(user, "id", 1L);
+
+            given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+            given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+            given(passwordEncoder.needsRehash(anyString())).willReturn(false);
+
+            // when
+            authService.signin(signinRequest);
+
+            // then
+            verify(passwordEncoder, never()).encode(anyString());
+            verify(userService, never()).updatePasswordHash(anyLong(), anyString(), anyString());
         }
 
         @Test
@@ -161,4 +217,43 @@ public class AuthServiceTest {
             assertEquals("잘못된 비밀번호입니다.", exception.getMessage());
         }
     }
+
+    @Nested
+    class RefreshTest {
+        @Test
+        void 리프레시_토큰으로_비밀번호_검증_없이_새_토큰을_발급한다() {
+            // given
+            RefreshRequest refreshRequest = new RefreshRequest("refresh-token");
+            User user = new User("email", "$2a$04$jfQeXoc7b5IWWvZFPDE.he56RmITYyjnPA4haWZB2EgFda9uDXsHC", UserRole.ADMIN);
+            ReflectionTestUtils.setField(user, "id", 1L);
+
+            given(refreshTokenService.rotate("refresh-token")).willReturn(new RefreshTokenService.Rotation(1L, "new-refresh-token"));
+            given(userRepository.findById(1L)).willReturn(Optional.of(user));
+            given(jwtUtil.createToken(1L, "email", UserRole.ADMIN)).willReturn("Bearer new");
+
+            // when
+            RefreshResponse refreshResponse = authService.refresh(refreshRequest);
+
+            // then
+            assertEquals("Bearer new", refreshResponse.getBearerToken());
+            assertEquals("new-refresh-token", refreshResponse.getRefreshToken());
+            verify(passwordEncoder, never()).matches(anyString(), anyString());
+        }
+
+        @Test
+        void 교체할_수_없는_리프레시_토큰이면_에러발생() {
+            // given
+            RefreshRequest refreshRequest = new RefreshRequest("used-refresh-token");
+
+            given(refreshTokenService.rotate("used-refresh-token"))
+                    .willThrow(new AuthException("이미 사용된 리프레시 토큰입니다. 다시 로그인해 주세요."));
+
+            // when
+            AuthException exception = assertThrows(AuthException.class, () -> authService.refresh(refreshRequest));
+
+            // then
+            assertEquals("이미 사용된 리프레시 토큰입니다. 다시 로그인해 주세요.", exception.getMessage());
+            verify(jwtUtil, never()).createToken(anyLong(), anyString(), any(UserRole.class));
+        }
+    }
 }
@@ -0,0 +1,119 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.TokenRevocationList;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 로그인의 bcrypt 연산이 DB 커넥션을 잡은 트랜잭션 안에서 실행되지 않는지 확인합니다.
+ * 테스트 트랜잭션이 결과를 가리지 않도록 테스트 메서드는 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Import({AuthService.class, UserService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:auth-transaction;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+class AuthServiceTransactionTest {
+
+    private static final String OLD_HASH = "$2a$04$jfQeXoc7b5IWWvZFPDE.he56RmITYyjnPA4haWZB2EgFda9uDXsHC";
+    private static final String NEW_HASH = "$2a$10$jfQeXoc7b5IWWvZFPDE.he56RmITYyjnPA4haWZB2EgFda9uDXsHC";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private RefreshTokenService refreshTokenService;
+
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+
+    private final List<Boolean> transactionActiveWhileHashing = new CopyOnWriteArrayList<>();
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(new User("user@a.com", OLD_HASH, UserRole.USER)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void 로그인의_비밀번호_검증과_재해싱은_트랜잭션_밖에서_실행된다() {
+        // given
+        given(passwordEncoder.matches("pwd", OLD_HASH)).willAnswer(invocation -> {
+            transactionActiveWhileHashing.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return true;
+        });
+        given(passwordEncoder.needsRehash(OLD_HASH)).willReturn(true);
+        given(passwordEncoder.encode("pwd")).willAnswer(invocation -> {
+            transactionActiveWhileHashing.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return NEW_HASH;
+        });
+        given(jwtUtil.createToken(userId, "user@a.com", UserRole.USER)).willReturn("Bearer token");
+        given(refreshTokenService.issue(userId)).willReturn("refresh-token");
+
+        // when
+        authService.signin(new SigninRequest("user@a.com", "pwd"));
+
+        // then
+        assertEquals(List.of(false, false), transactionActiveWhileHashing);
+        assertEquals(NEW_HASH, userRepository.findById(userId).orElseThrow().getPassword());
+    }
+
+    @Test
+    void 해싱하는_사이_비밀번호가_바뀌었으면_다시_해싱한_값으로_덮어쓰지_않는다() {
+        // given
+        userService.updatePasswordHash(userId, OLD_HASH, "$2a$10$changed");
+
+        // when
+        boolean updated = userService.updatePasswordHash(userId, OLD_HASH, NEW_HASH);
+
+        // then
+        assertFalse(updated);
+        assertEquals("$2a$10$changed", userRepository.findById(userId).orElseThrow().getPassword());
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.expert.domain.auth.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientIpResolverTest {
+
+    private final ClientIpResolver clientIpResolver = new ClientIpResolver(properties(List.of("10.0.0.0/8", "::1")));
+
+    @Test
+    void 신뢰하는_프록시를_거친_요청은_X_Forwarded_For_의_클라이언트_IP를_사용한다() {
+        // given
+        MockHttpServletRequest request = request("10.0.0.5", "203.0.113.7, 10.0.0.9");
+
+        // when & then
+        assertEquals("203.0.113.7", clientIpResolver.resolve(request));
+    }
+
+    @Test
+    void 클라이언트가_헤더_앞쪽에_넣은_값은_무시한다() {
+        // given
+        MockHttpServletRequest request = request("10.0.0.5", "198.51.100.1, 203.0.113.7");
+
+        // when & then
+        assertEquals("203.0.113.7", clientIpResolver.resolve(request));
+    }
+
+    @Test
+    void 신뢰하지_않는_주소에서_온_요청은_헤더를_읽지_않는다() {
+        // given
+        MockHttpServletRequest request = request("203.0.113.7", "198.51.100.1");
+
+        // when & then
+        assertEquals("203.0.113.7", clientIpResolver.resolve(request));
+    }
+
+    @Test
+    void 헤더가_없거나_모두_프록시면_마지막으로_확인한_주소를_사용한다() {
+        // when & then
+        assertEquals("10.0.0.5", clientIpResolver.resolve(request("10.0.0.5", null)));
+        assertEquals("10.0.0.1", clientIpResolver.resolve(request("::1", "10.0.0.1")));
+    }
+
+    @Test
+    void IP_리터럴이_아니면_DNS_를_조회하지_않고_무시한다() {
+        // when & then
+        assertNull(ClientIpResolver.parseLiteral("example.com"));
+        assertNull(ClientIpResolver.parseLiteral("256.0.0.1"));
+        assertNull(ClientIpResolver.parseLiteral("fe80::zz"));
+        assertNotNull(ClientIpResolver.parseLiteral("2001:db8::1"));
+        assertThrows(IllegalArgumentException.class, () -> new ClientIpResolver(properties(List.of("proxy.local"))));
+    }
+
+    private MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+
+    private AuthRateLimitProperties properties(List<String> trustedProxies) {
+        return new AuthRateLimitProperties(true, 5, Duration.ofMinutes(1), 20, Duration.ofMinutes(1),
+                64, 1000, Duration.ofMinutes(10), trustedProxies);
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.TokenRevocationList;
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, tokenRevocationList, Duration.ofDays(14), meterRegistry);
+    }
+
+    @Test
+    void 원본_토큰_대신_해시를_저장한다() {
+        // when
+        String rawToken = refreshTokenService.issue(1L);
+
+        // then
+        RefreshToken saved = savedToken();
+        assertNotEquals(rawToken, saved.getTokenHash());
+        assertEquals(RefreshTokenService.hash(rawToken), saved.getTokenHash());
+        assertEquals(1L, saved.getUserId());
+        assertTrue(saved.getExpiresAt() > System.currentTimeMillis() + Duration.ofDays(13).toMillis());
+    }
+
+    @Test
+    void 사용하지_않은_토큰은_같은_family_의_새_토큰으로_교체한다() {
+        // given
+        RefreshToken refreshToken = storedToken("family", System.currentTimeMillis() + 60_000);
+        given(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("raw"))).willReturn(Optional.of(refreshToken));
+        given(refreshTokenRepository.markUsed(any(), anyLong())).willReturn(1);
+
+        // when
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("raw");
+
+        // then
+        assertEquals(1L, rotation.userId());
+        assertNotEquals("raw", rotation.refreshToken());
+        assertEquals("family", savedToken().getFamilyId());
+        assertEquals(1.0, meterRegistry.get("auth.refresh").tag("result", "rotated").counter().count());
+    }
+
+    @Test
+    void 이미_사용된_토큰이면_family_와_액세스_토큰을_모두_폐기한다() {
+        // given
+        RefreshToken refreshToken = storedToken("family", System.currentTimeMillis() + 60_000);
+        given(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("raw"))).willReturn(Optional.of(refreshToken));
+        given(refreshTokenRepository.markUsed(any(), anyLong())).willReturn(0);
+
+        // when
+        AuthException exception = assertThrows(AuthException.class, () -> refreshTokenService.rotate("raw"));
+
+        // then
+        assertEquals("이미 사용된 리프레시 토큰입니다. 다시 로그인해 주세요.", exception.getMessage());
+        verify(refreshTokenRepository).deleteByFamilyId("family");
+        verify(tokenRevocationList).revokeAll(1L);
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void 만료되었거나_없는_토큰이면_에러발생() {
+        // given
+        RefreshToken expired = storedToken("family", System.currentTimeMillis() - 1);
+        given(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("expired"))).willReturn(Optional.of(expired));
+        given(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("unknown"))).willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(AuthException.class, () -> refreshTokenService.rotate("expired"));
+        assertThrows(AuthException.class, () -> refreshTokenService.rotate("unknown"));
+        verify(refreshTokenRepository, never()).markUsed(any(), anyLong());
+        assertEquals(2.0, meterRegistry.get("auth.refresh").tag("result", "invalid").counter().count());
+    }
+
+    private RefreshToken storedToken(String familyId, long expiresAt) {
+        RefreshToken refreshToken = new RefreshToken("hash", 1L, familyId, expiresAt);
+        ReflectionTestUtils.setField(refreshToken, "id", 10L);
+        return refreshToken;
+    }
+
+    private RefreshToken savedToken() {
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.expert.domain.auth.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedTokenBucketsTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    void 용량만큼_허용하고_시간이_지나면_다시_채운다() {
+        // given
+        StripedTokenBuckets buckets = new StripedTokenBuckets(4, 3, MINUTE, 100);
+
+        // when & then
+        assertTrue(buckets.tryAcquire("a@a.com", 0));
+        assertTrue(buckets.tryAcquire("a@a.com", 0));
+        assertTrue(buckets.tryAcquire("a@a.com", 0));
+        assertFalse(buckets.tryAcquire("a@a.com", 0));
+        assertTrue(buckets.tryAcquire("b@b.com", 0));
+
+        // 1분에 3개를 채우므로 20초 뒤 1개를 다시 쓸 수 있습니다.
+        assertTrue(buckets.tryAcquire("a@a.com", TimeUnit.SECONDS.toNanos(20)));
+        assertFalse(buckets.tryAcquire("a@a.com", TimeUnit.SECONDS.toNanos(20)));
+    }
+
+    @Test
+    void 오래_쓰이지_않은_버킷을_정리한다() {
+        // given
+        StripedTokenBuckets buckets = new StripedTokenBuckets(4, 3, MINUTE, 100);
+        buckets.tryAcquire("old", 0);
+        buckets.tryAcquire("recent", 9 * MINUTE);
+
+        // when
+        int evicted = buckets.evictIdle(10 * MINUTE, 5 * MINUTE);
+
+        // then
+        assertEquals(1, evicted);
+        assertEquals(1, buckets.size());
+    }
+
+    @Test
+    void 최대_개수를_넘으면_가장_오래_쓰이지_않은_버킷부터_제거한다() {
+        // given
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1, 1, MINUTE, 2);
+        buckets.tryAcquire("first", 0);
+        buckets.tryAcquire("second", 1);
+        buckets.tryAcquire("first", 2);
+
+        // when
+        buckets.tryAcquire("third", 3);
+
+        // then
+        assertEquals(2, buckets.size());
+        assertFalse(buckets.tryAcquire("first", 4));
+        assertTrue(buckets.tryAcquire("second", 5));
+    }
+}
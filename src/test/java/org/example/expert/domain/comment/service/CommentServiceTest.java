@@ -84,13 +84,13 @@ class CommentServiceTest {
             // given
             long todoId = 1L;
 
-            Comment testComment1 = new Comment("test1", new User(), new Todo());
-            Comment testComment2 = new Comment("test2", new User(), new Todo());
-            Comment testComment3 = new Comment("test3", new User(), new Todo());
+            List<CommentResponse> comments = List.of(
+                    new CommentResponse(1L, "test1", 1L, "a@a.com"),
+                    new CommentResponse(2L, "test2", 1L, "a@a.com"),
+                    new CommentResponse(3L, "test3", 2L, "b@b.com")
+            );
 
-            List<Comment> comments = List.of(testComment1, testComment2, testComment3);
-
-            given(commentRepository.findByTodoIdWithUser(anyLong())).willReturn(comments);
+            given(commentRepository.findResponsesByTodoId(anyLong())).willReturn(comments);
 
             // when
             List<CommentResponse> commentList = commentService.getComments(todoId);
@@ -98,20 +98,21 @@ class CommentServiceTest {
             // then
             assertNotNull(commentList);
             assertEquals(3, commentList.size());
+            assertEquals("b@b.com", commentList.get(2).getUser().getEmail());
         }
 
         @Test
-        void 댓글_전체조회중_존재하지_않는_todoId로_에러발생() {
+        void 댓글_전체조회중_댓글이_없으면_빈_목록을_반환한다() {
             // given
             long todoId = 1L;
 
-            given(commentRepository.findByTodoIdWithUser(anyLong())).willReturn(null);
+            given(commentRepository.findResponsesByTodoId(anyLong())).willReturn(List.of());
 
             // when
-            NullPointerException exception = assertThrows(NullPointerException.class, () -> commentService.getComments(todoId));
+            List<CommentResponse> commentList = commentService.getComments(todoId);
 
             // then
-            assertEquals("Cannot invoke \"java.util.List.iterator()\" because \"commentList\" is null", exception.getMessage());
+            assertTrue(commentList.isEmpty());
         }
     }
 }
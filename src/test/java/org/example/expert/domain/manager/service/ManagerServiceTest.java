@@ -26,6 +26,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -142,6 +143,29 @@ class ManagerServiceTest {
             // then
             assertEquals("일정 작성자는 본인을 담당자로 등록할 수 없습니다.", exception.getMessage());
         }
+
+        @Test
+        void todo등록중_이미_등록된_담당자라_에러발생() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            long todoId = 1L;
+            long managerUserId = 2L;
+            Todo todo = new Todo("Test Title", "Test Contents", "Sunny", User.fromAuthUser(authUser));
+            User managerUser = new User("b@b.com", "password", UserRole.USER);
+            ReflectionTestUtils.setField(managerUser, "id", managerUserId);
+
+            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+            given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
+            given(managerRepository.existsByTodoIdAndUserId(todoId, managerUserId)).willReturn(true);
+
+            // when
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> managerService.saveManager(authUser, todoId, new ManagerSaveRequest(managerUserId)));
+
+            // then
+            assertEquals("이미 등록된 담당자입니다.", exception.getMessage());
+            verify(managerRepository, never()).save(any(Manager.class));
+        }
     }
 
     @Nested
@@ -150,35 +174,45 @@ class ManagerServiceTest {
         public void manager_목록_조회에_성공한다() {
             // given
             long todoId = 1L;
-            User user = new User("user1@example.com", "password", UserRole.USER);
-            Todo todo = new Todo("Title", "Contents", "Sunny", user);
-            ReflectionTestUtils.setField(todo, "id", todoId);
-
-            Manager mockManager = new Manager(todo.getUser(), todo);
-            List<Manager> managerList = List.of(mockManager);
+            List<ManagerResponse> managerList = List.of(new ManagerResponse(1L, 2L, "user1@example.com"));
 
-            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-            given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+            given(managerRepository.findResponsesByTodoId(todoId)).willReturn(managerList);
 
             // when
             List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
 
             // then
             assertEquals(1, managerResponses.size());
-            assertEquals(mockManager.getId(), managerResponses.get(0).getId());
-            assertEquals(mockManager.getUser().getEmail(), managerResponses.get(0).getUser().getEmail());
+            assertEquals(1L, managerResponses.get(0).getId());
+            assertEquals("user1@example.com", managerResponses.get(0).getUser().getEmail());
+            verify(todoRepository, never()).existsById(todoId);
         }
 
         @Test
         public void manager_목록_조회_시_Todo가_없다면_IRE_에러를_던진다() {
             // given
             long todoId = 1L;
-            given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+            given(managerRepository.findResponsesByTodoId(todoId)).willReturn(List.of());
+            given(todoRepository.existsById(todoId)).willReturn(false);
 
             // when & then
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.getManagers(todoId));
             assertEquals("Todo not found", exception.getMessage());
         }
+
+        @Test
+        public void manager가_없는_Todo면_빈_목록을_반환한다() {
+            // given
+            long todoId = 1L;
+            given(managerRepository.findResponsesByTodoId(todoId)).willReturn(List.of());
+            given(todoRepository.existsById(todoId)).willReturn(true);
+
+            // when
+            List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
+
+            // then
+            assertTrue(managerResponses.isEmpty());
+        }
     }
 
     @Nested
@@ -0,0 +1,50 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TodoCounterTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 갱신할_때만_개수를_세고_그_사이에_저장된_일정은_더해_둔다() {
+        // given
+        TodoCounter todoCounter = new TodoCounter(todoRepository, meterRegistry);
+        given(todoRepository.count()).willReturn(10L);
+
+        // when
+        todoCounter.refresh();
+        todoCounter.increment();
+
+        // then
+        assertEquals(11L, todoCounter.approximateTotal());
+        assertEquals(11.0, meterRegistry.get("todos.approximate.total").gauge().value());
+    }
+
+    @Test
+    void 갱신에_실패하면_이전_값을_유지한다() {
+        // given
+        TodoCounter todoCounter = new TodoCounter(todoRepository, meterRegistry);
+        given(todoRepository.count()).willReturn(10L).willThrow(new IllegalStateException("db down"));
+        todoCounter.refresh();
+
+        // when
+        todoCounter.refresh();
+
+        // then
+        assertEquals(10L, todoCounter.approximateTotal());
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(TodoDetailService.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:todo-detail;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class TodoDetailServiceTest {
+
+    @Autowired
+    private TodoDetailService todoDetailService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        User owner = entityManager.persist(new User("owner@a.com", "password", UserRole.USER));
+        todo = entityManager.persist(new Todo("title", "contents", "Sunny", owner));
+        for (int i = 1; i <= 2; i++) {
+            User managerUser = entityManager.persist(new User("manager" + i + "@a.com", "password", UserRole.USER));
+            entityManager.persist(new Manager(managerUser, todo));
+        }
+        for (int i = 1; i <= 3; i++) {
+            entityManager.persist(new Comment("comment" + i, owner, todo));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 일정_담당자_댓글_한_페이지를_SQL_3개로_조회한다() {
+        // when
+        TodoDetailResponse response = todoDetailService.getTodoDetail(todo.getId(), 1, 2);
+
+        // then
+        assertEquals(todo.getId(), response.getTodo().getId());
+        assertEquals("owner@a.com", response.getTodo().getUser().getEmail());
+        assertEquals(3, response.getManagers().size()); // 일정을 만든 유저도 담당자로 등록됩니다.
+        assertEquals(2, response.getComments().size());
+        assertEquals("comment1", response.getComments().get(0).getContents());
+        assertTrue(response.isHasNextComments());
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void 마지막_댓글_페이지면_다음_페이지가_없다() {
+        // when
+        TodoDetailResponse response = todoDetailService.getTodoDetail(todo.getId(), 2, 2);
+
+        // then
+        assertEquals(1, response.getComments().size());
+        assertEquals("comment3", response.getComments().get(0).getContents());
+        assertFalse(response.isHasNextComments());
+    }
+
+    @Test
+    void 일정이_없으면_담당자와_댓글을_조회하지_않고_에러발생() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoDetailService.getTodoDetail(todo.getId() + 100, 1, 10));
+
+        // then
+        assertEquals("Todo not found", exception.getMessage());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void 잘못된_댓글_페이지나_크기면_에러발생() {
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> todoDetailService.getTodoDetail(todo.getId(), 0, 10));
+        assertThrows(InvalidRequestException.class, () -> todoDetailService.getTodoDetail(todo.getId(), 1, 0));
+        assertThrows(InvalidRequestException.class, () -> todoDetailService.getTodoDetail(todo.getId(), 1, 101));
+    }
+}
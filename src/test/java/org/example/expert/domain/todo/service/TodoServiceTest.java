@@ -0,0 +1,203 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private WeatherClient weatherClient;
+    @Mock
+    private TodoCounter todoCounter;
+    @InjectMocks
+    private TodoService todoService;
+
+    @Nested
+    class SaveTodoTest {
+        @Test
+        void 날씨를_먼저_조회한_뒤_todo를_저장한다() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            TodoSaveRequest request = new TodoSaveRequest("title", "contents");
+
+            given(weatherClient.getTodayWeather()).willReturn("Sunny");
+            given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> {
+                Todo todo = invocation.getArgument(0);
+                ReflectionTestUtils.setField(todo, "id", 1L);
+                return todo;
+            });
+
+            // when
+            TodoSaveResponse response = todoService.saveTodo(authUser, request);
+
+            // then
+            InOrder inOrder = inOrder(weatherClient, todoRepository);
+            inOrder.verify(weatherClient).getTodayWeather();
+            inOrder.verify(todoRepository).save(any(Todo.class));
+            assertEquals(1L, response.getId());
+            assertEquals("Sunny", response.getWeather());
+            verify(todoCounter).increment();
+        }
+
+        @Test
+        void 날씨_조회에_실패하면_저장하지_않는다() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            TodoSaveRequest request = new TodoSaveRequest("title", "contents");
+
+            given(weatherClient.getTodayWeather()).willThrow(new ServerException("날씨 데이터가 없습니다."));
+
+            // when
+            assertThrows(ServerException.class, () -> todoService.saveTodo(authUser, request));
+
+            // then
+            verify(todoRepository, never()).save(any(Todo.class));
+        }
+
+        @Test
+        void saveTodo는_트랜잭션_없이_실행된다() throws NoSuchMethodException {
+            // when
+            Transactional transactional = TodoService.class
+                    .getMethod("saveTodo", AuthUser.class, TodoSaveRequest.class)
+                    .getAnnotation(Transactional.class);
+
+            // then
+            assertEquals(Propagation.NOT_SUPPORTED, transactional.propagation());
+        }
+    }
+
+    @Nested
+    class GetTodoSliceTest {
+        @Test
+        void 개수를_세지_않고_다음_페이지_여부와_근사_개수를_내려준다() {
+            // given
+            TodoResponse todo = new TodoResponse(1L, "title", "contents", "Sunny", 1L, "a@a.com", null, null);
+            PageRequest pageable = PageRequest.of(0, 1);
+            given(todoRepository.findSliceByOrderByModifiedAtDesc(pageable)).willReturn(new SliceImpl<>(List.of(todo), pageable, true));
+            given(todoCounter.approximateTotal()).willReturn(42L);
+
+            // when
+            TodoSliceResponse response = todoService.getTodoSlice(1, 1);
+
+            // then
+            assertEquals(1, response.getContent().size());
+            assertTrue(response.isHasNext());
+            assertEquals(42L, response.getApproximateTotalElements());
+            verify(todoRepository, never()).count();
+        }
+    }
+
+    @Nested
+    class GetTodosByCursorTest {
+        @Test
+        void 첫_페이지는_커서_없이_조회하고_다음_페이지가_있으면_마지막_항목으로_커서를_만든다() {
+            // given
+            LocalDateTime now = LocalDateTime.of(2026, 10, 18, 12, 0, 0, 123_456_000);
+            List<TodoResponse> rows = List.of(todo(3L, now), todo(2L, now), todo(1L, now.minusSeconds(1)));
+            given(todoRepository.findFirstPageByCursor(PageRequest.of(0, 3))).willReturn(rows);
+
+            // when
+            TodoCursorResponse response = todoService.getTodosByCursor(null, 2);
+
+            // then
+            assertEquals(2, response.getTodos().size());
+            assertTrue(response.isHasNext());
+            TodoCursor cursor = TodoCursor.decode(response.getNextCursor());
+            assertEquals(now, cursor.modifiedAt());
+            assertEquals(2L, cursor.id());
+        }
+
+        @Test
+        void 커서가_있으면_커서_다음부터_조회하고_마지막_페이지면_커서를_내려주지_않는다() {
+            // given
+            LocalDateTime now = LocalDateTime.of(2026, 10, 18, 12, 0);
+            String cursor = new TodoCursor(now, 2L).encode();
+            given(todoRepository.findNextPageByCursor(now, 2L, PageRequest.of(0, 3)))
+                    .willReturn(List.of(todo(1L, now.minusSeconds(1))));
+
+            // when
+            TodoCursorResponse response = todoService.getTodosByCursor(cursor, 2);
+
+            // then
+            assertEquals(1, response.getTodos().size());
+            assertFalse(response.isHasNext());
+            assertNull(response.getNextCursor());
+        }
+
+        @Test
+        void 잘못된_커서나_크기면_에러발생() {
+            // when & then
+            assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor("not-a-cursor", 10));
+            assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor(null, 0));
+            assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor(null, 101));
+        }
+
+        private TodoResponse todo(long id, LocalDateTime modifiedAt) {
+            return new TodoResponse(id, "title", "contents", "Sunny", 1L, "a@a.com", modifiedAt, modifiedAt);
+        }
+    }
+
+    @Nested
+    class GetTodoTest {
+        @Test
+        void 일정을_응답_DTO로_바로_조회한다() {
+            // given
+            TodoResponse todo = new TodoResponse(1L, "title", "contents", "Sunny", 2L, "a@a.com", null, null);
+            given(todoRepository.findResponseById(1L)).willReturn(Optional.of(todo));
+
+            // when
+            TodoResponse response = todoService.getTodo(1L);
+
+            // then
+            assertEquals(1L, response.getId());
+            assertEquals(2L, response.getUser().getId());
+            assertEquals("a@a.com", response.getUser().getEmail());
+        }
+
+        @Test
+        void 일정이_없으면_에러발생() {
+            // given
+            given(todoRepository.findResponseById(1L)).willReturn(Optional.empty());
+
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> todoService.getTodo(1L));
+            assertEquals("Todo not found", exception.getMessage());
+        }
+    }
+}
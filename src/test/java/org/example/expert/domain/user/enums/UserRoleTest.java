@@ -0,0 +1,22 @@
+package org.example.expert.domain.user.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserRoleTest {
+
+    @Test
+    void 이름으로_권한을_찾고_대소문자는_구분하지_않는다() {
+        assertSame(UserRole.ADMIN, UserRole.of("ADMIN"));
+        assertSame(UserRole.USER, UserRole.of("user"));
+        assertSame(UserRole.ADMIN, UserRole.of("Admin"));
+    }
+
+    @Test
+    void 없는_권한이면_에러발생() {
+        assertThrows(InvalidRequestException.class, () -> UserRole.of("MANAGER"));
+        assertThrows(InvalidRequestException.class, () -> UserRole.of(null));
+    }
+}